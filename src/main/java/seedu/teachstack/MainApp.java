@@ -2,10 +2,19 @@ package seedu.teachstack;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.teachstack.commons.core.Config;
 import seedu.teachstack.commons.core.LogsCenter;
@@ -23,14 +32,22 @@ import seedu.teachstack.model.ReadOnlyAddressBook;
 import seedu.teachstack.model.ReadOnlyArchivedBook;
 import seedu.teachstack.model.ReadOnlyUserPrefs;
 import seedu.teachstack.model.UserPrefs;
+import seedu.teachstack.model.UserPrefs.DataFileFormat;
+import seedu.teachstack.model.person.Person;
 import seedu.teachstack.model.util.SampleDataUtil;
 import seedu.teachstack.storage.AddressBookStorage;
 import seedu.teachstack.storage.ArchivedBookStorage;
+import seedu.teachstack.storage.BinaryAddressBookStorage;
+import seedu.teachstack.storage.BinaryArchivedBookStorage;
+import seedu.teachstack.storage.DataFileMigration;
+import seedu.teachstack.storage.JournaledAddressBookStorage;
+import seedu.teachstack.storage.JournaledArchivedBookStorage;
 import seedu.teachstack.storage.JsonAddressBookStorage;
 import seedu.teachstack.storage.JsonArchivedBookStorage;
 import seedu.teachstack.storage.JsonSerializableUserData;
 import seedu.teachstack.storage.JsonUserDataStorage;
 import seedu.teachstack.storage.JsonUserPrefsStorage;
+import seedu.teachstack.storage.MappedArchivedBookStorage;
 import seedu.teachstack.storage.Storage;
 import seedu.teachstack.storage.StorageManager;
 import seedu.teachstack.storage.UserDataStorage;
@@ -47,6 +64,12 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final String LOADER_THREAD_NAME = "data-loader";
+    private static final int READER_THREAD_COUNT = 2;
+    private static final String READER_THREAD_NAME = "data-reader";
+    /** The number of persons passed to the model at a time while loading. */
+    private static final int LOAD_BATCH_SIZE = 1000;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -58,26 +81,83 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing TeachStack ]===========================");
         super.init();
 
+        long startTime = System.nanoTime();
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        logPhaseTime("Reading config", startTime);
 
+        startTime = System.nanoTime();
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ArchivedBookStorage archivedBookStorage = new JsonArchivedBookStorage(userPrefs.getArchivedBookFilePath());
-        UserDataStorage userDataStorage = new JsonUserDataStorage(userPrefs.getUserDataFilePath());
-        storage = new StorageManager(addressBookStorage, archivedBookStorage, userDataStorage, userPrefsStorage);
+        logPhaseTime("Reading preferences", startTime);
+
+        startTime = System.nanoTime();
+        storage = initStorage(userPrefs, userPrefsStorage);
+        logPhaseTime("Preparing data files", startTime);
 
+        // The user data sets the starting filter of the model, so it must be read before the model is created
+        startTime = System.nanoTime();
         initUserData(storage);
+        logPhaseTime("Reading user data", startTime);
 
-        model = initModelManager(storage, userPrefs);
+        // The address book and archive are loaded into the model once the UI is showing
+        model = new ModelManager(userPrefs);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code Storage} that keeps the address book and archive in the format chosen in {@code userPrefs}.
+     * If the files in the other format hold newer data, such as when the format has just been changed, that data is
+     * copied into the files in the chosen format first. The archive is kept in a memory-mapped record file instead if
+     * that is enabled in {@code userPrefs}.
+     */
+    private Storage initStorage(ReadOnlyUserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Path archivedBookFilePath = userPrefs.getArchivedBookFilePath();
+        AddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        ArchivedBookStorage jsonArchivedBookStorage = new JsonArchivedBookStorage(archivedBookFilePath);
+        AddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath));
+        ArchivedBookStorage binaryArchivedBookStorage = new BinaryArchivedBookStorage(
+                BinaryArchivedBookStorage.getBinaryFilePath(archivedBookFilePath));
+        if (userPrefs.isJournalEnabled()) {
+            jsonAddressBookStorage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+            jsonArchivedBookStorage = new JournaledArchivedBookStorage(jsonArchivedBookStorage);
+            binaryAddressBookStorage = new JournaledAddressBookStorage(binaryAddressBookStorage);
+            binaryArchivedBookStorage = new JournaledArchivedBookStorage(binaryArchivedBookStorage);
+        }
+
+        AddressBookStorage addressBookStorage;
+        ArchivedBookStorage archivedBookStorage;
+        if (userPrefs.getDataFileFormat() == DataFileFormat.BINARY) {
+            addressBookStorage = binaryAddressBookStorage;
+            archivedBookStorage = binaryArchivedBookStorage;
+            DataFileMigration.migrateIfOutdated(jsonAddressBookStorage, addressBookStorage);
+            DataFileMigration.migrateIfOutdated(jsonArchivedBookStorage, archivedBookStorage);
+        } else {
+            addressBookStorage = jsonAddressBookStorage;
+            archivedBookStorage = jsonArchivedBookStorage;
+            DataFileMigration.migrateIfOutdated(binaryAddressBookStorage, addressBookStorage);
+            DataFileMigration.migrateIfOutdated(binaryArchivedBookStorage, archivedBookStorage);
+        }
+
+        ArchivedBookStorage mappedArchivedBookStorage = new MappedArchivedBookStorage(
+                MappedArchivedBookStorage.getRecordFilePath(archivedBookFilePath));
+        if (userPrefs.isMappedArchiveEnabled()) {
+            DataFileMigration.migrateIfOutdated(archivedBookStorage, mappedArchivedBookStorage);
+            archivedBookStorage = mappedArchivedBookStorage;
+        } else {
+            DataFileMigration.migrateIfOutdated(mappedArchivedBookStorage, archivedBookStorage);
+        }
+
+        UserDataStorage userDataStorage = new JsonUserDataStorage(userPrefs.getUserDataFilePath());
+        return new StorageManager(addressBookStorage, archivedBookStorage, userDataStorage, userPrefsStorage);
+    }
+
     private void initUserData(Storage storage) {
         logger.info("Using user data file : " + storage.getUserDataFilePath());
 
@@ -95,35 +175,125 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Starts loading the data from {@code storage}'s address book and archive into the model in the background. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private void startLoadingData() {
+        long startTime = System.nanoTime();
+        Thread loaderThread = new Thread(() -> loadData(startTime), LOADER_THREAD_NAME);
+        loaderThread.setDaemon(true);
+        loaderThread.setUncaughtExceptionHandler((thread, e) -> {
+            logger.severe("Data could not be loaded: " + StringUtil.getDetails(e));
+            Platform.exit();
+        });
+        loaderThread.start();
+    }
+
+    /**
+     * Reads the address book and archive, which do not depend on each other, at the same time, and passes them to
+     * the model.
+     */
+    private void loadData(long startTime) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
         logger.info("Using archive file : " + storage.getArchivedBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ExecutorService reader = Executors.newFixedThreadPool(READER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, READER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
         ReadOnlyAddressBook initialData;
-        Optional<ReadOnlyArchivedBook> archivedBookOptional;
         ReadOnlyArchivedBook initialData2;
         try {
-            addressBookOptional = storage.readAddressBook();
-            archivedBookOptional = storage.readArchivedBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with sample TeachStack data.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-            initialData2 = archivedBookOptional.orElseGet(ArchivedBook::new);
+            Future<Optional<ReadOnlyAddressBook>> addressBookLoaded = reader.submit(() ->
+                    timePhase("Reading address book", storage::readAddressBook));
+            Future<Optional<ReadOnlyArchivedBook>> archivedBookLoaded = reader.submit(() ->
+                    timePhase("Reading archive", storage::readArchivedBook));
+
+            initialData = getInitialAddressBook(storage, join(addressBookLoaded));
+            initialData2 = join(archivedBookLoaded).orElseGet(ArchivedBook::new);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty TeachStack.");
             initialData = new AddressBook();
             initialData2 = new ArchivedBook();
+        } finally {
+            reader.shutdown();
         }
 
-        return new ModelManager(initialData, initialData2, userPrefs);
+        publishData(initialData, initialData2, startTime);
+    }
+
+    /**
+     * Passes the persons in {@code addressBook} to the model in sorted batches, followed by {@code archivedBook}.
+     * Each batch is handled as a separate event on the JavaFX application thread, so the persons are shown as they
+     * are added and the UI stays responsive in between.
+     */
+    private void publishData(ReadOnlyAddressBook addressBook, ReadOnlyArchivedBook archivedBook, long startTime) {
+        // Sorted here rather than by the model, so that the application thread is not held up
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.sort(null);
+        for (int i = 0; i < persons.size(); i += LOAD_BATCH_SIZE) {
+            List<Person> batch = new ArrayList<>(persons.subList(i, Math.min(i + LOAD_BATCH_SIZE, persons.size())));
+            Platform.runLater(() -> model.addLoadedPersons(batch));
+        }
+
+        Platform.runLater(() -> {
+            model.finishLoading(archivedBook);
+            ui.handleDataLoaded();
+            logPhaseTime("Loading data", startTime);
+        });
+    }
+
+    private ReadOnlyAddressBook getInitialAddressBook(Storage storage,
+            Optional<ReadOnlyAddressBook> addressBookOptional) {
+        if (!addressBookOptional.isPresent()) {
+            logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                    + " populated with sample TeachStack data.");
+        }
+        return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+    }
+
+    /**
+     * Returns the result of {@code loaded}, waiting for it if needed.
+     *
+     * @throws DataLoadingException if the data could not be loaded.
+     */
+    private static <T> T join(Future<T> loaded) throws DataLoadingException {
+        try {
+            return loaded.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the result of {@code phase}, logging how long it took.
+     */
+    private static <T> T timePhase(String phaseName, Callable<T> phase) throws Exception {
+        long startTime = System.nanoTime();
+        try {
+            return phase.call();
+        } finally {
+            logPhaseTime(phaseName, startTime);
+        }
+    }
+
+    private static void logPhaseTime(String phaseName, long startTime) {
+        logger.info(String.format("%s took %d ms", phaseName,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
     }
 
     private void initLogging(Config config) {
@@ -205,11 +375,13 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TeachStack " + MainApp.VERSION);
         ui.start(primaryStage);
+        startLoadingData();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TeachStack ] =============================");
+        logic.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
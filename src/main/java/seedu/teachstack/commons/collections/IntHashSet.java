@@ -0,0 +1,115 @@
+package seedu.teachstack.commons.collections;
+
+import java.util.Arrays;
+
+/**
+ * A hash set of ints, kept in one array rather than as boxed elements.
+ * Like {@link IntObjectHashMap}, an element is kept in the first free slot at or after the slot its hash picks, and
+ * the array is kept at most half full. A slot holding 0 is free, so whether 0 is in the set is kept separately.
+ */
+public class IntHashSet {
+
+    private static final int FREE = 0;
+
+    private int[] elements;
+    private int mask;
+    private int size;
+    private boolean containsFree;
+
+    /**
+     * Creates an empty set.
+     */
+    public IntHashSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set that can hold {@code expectedSize} elements without growing.
+     */
+    public IntHashSet(int expectedSize) {
+        allocate(IntObjectHashMap.capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if {@code element} is in the set.
+     */
+    public boolean contains(int element) {
+        if (element == FREE) {
+            return containsFree;
+        }
+        return elements[slotOf(element)] == element;
+    }
+
+    /**
+     * Adds {@code element} to the set, returning true if it was not already in it.
+     */
+    public boolean add(int element) {
+        if (element == FREE) {
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            size++;
+            return true;
+        }
+
+        int slot = slotOf(element);
+        if (elements[slot] == element) {
+            return false;
+        }
+        elements[slot] = element;
+        size++;
+        if (size > elements.length / 2) {
+            rehash(elements.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes every element from the set.
+     */
+    public void clear() {
+        Arrays.fill(elements, FREE);
+        containsFree = false;
+        size = 0;
+    }
+
+    /**
+     * Returns the slot holding {@code element}, or the free slot it would be put in if it is not in the set.
+     */
+    private int slotOf(int element) {
+        int slot = hash(element);
+        while (elements[slot] != FREE && elements[slot] != element) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldElements = elements;
+        allocate(capacity);
+        for (int element : oldElements) {
+            if (element != FREE) {
+                elements[slotOf(element)] = element;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        elements = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int hash(int element) {
+        int hash = element * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
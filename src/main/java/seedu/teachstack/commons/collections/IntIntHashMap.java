@@ -0,0 +1,175 @@
+package seedu.teachstack.commons.collections;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from int keys to int values, kept in two parallel arrays, so that neither keys nor values are boxed.
+ * Like {@link IntObjectHashMap}, a key is kept in the first free slot at or after the slot its hash picks, and the
+ * arrays are kept at most half full. A slot whose key is 0 is free, so the value for the key 0 is kept separately.
+ */
+public class IntIntHashMap {
+
+    private static final int FREE = 0;
+
+    private final int missingValue;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean containsFree;
+    private int freeValue;
+
+    /**
+     * Creates an empty map whose lookups return {@code missingValue} for keys that are not in it.
+     */
+    public IntIntHashMap(int missingValue) {
+        this(missingValue, 0);
+    }
+
+    /**
+     * Creates an empty map that can hold {@code expectedSize} keys without growing, and whose lookups return
+     * {@code missingValue} for keys that are not in it.
+     */
+    public IntIntHashMap(int missingValue, int expectedSize) {
+        this.missingValue = missingValue;
+        allocate(IntObjectHashMap.capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if the map has a value for {@code key}.
+     */
+    public boolean containsKey(int key) {
+        return key == FREE ? containsFree : keys[slotOf(key)] == key;
+    }
+
+    /**
+     * Returns the value for {@code key}, or the missing value if there is none.
+     */
+    public int get(int key) {
+        if (key == FREE) {
+            return containsFree ? freeValue : missingValue;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == key ? values[slot] : missingValue;
+    }
+
+    /**
+     * Sets the value for {@code key} to {@code value}, returning the value it replaced, or the missing value if there
+     * was none.
+     */
+    public int put(int key, int value) {
+        if (key == FREE) {
+            int oldValue = containsFree ? freeValue : missingValue;
+            if (!containsFree) {
+                containsFree = true;
+                size++;
+            }
+            freeValue = value;
+            return oldValue;
+        }
+
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            int oldValue = values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size > keys.length / 2) {
+            rehash(keys.length * 2);
+        }
+        return missingValue;
+    }
+
+    /**
+     * Removes the value for {@code key}, returning it, or the missing value if there was none.
+     */
+    public int remove(int key) {
+        if (key == FREE) {
+            if (!containsFree) {
+                return missingValue;
+            }
+            containsFree = false;
+            size--;
+            return freeValue;
+        }
+
+        int slot = slotOf(key);
+        if (keys[slot] != key) {
+            return missingValue;
+        }
+        int oldValue = values[slot];
+        removeAt(slot);
+        return oldValue;
+    }
+
+    /**
+     * Removes every key from the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        containsFree = false;
+        size = 0;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the free slot it would be put in if it is not in the map.
+     */
+    private int slotOf(int key) {
+        int slot = hash(key);
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void removeAt(int slot) {
+        int free = slot;
+        for (int next = (free + 1) & mask; keys[next] != FREE; next = (next + 1) & mask) {
+            // The key at next can only be moved back if the free slot is not before the slot its hash picks
+            int home = hash(keys[next]);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        keys[free] = FREE;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.teachstack.commons.collections;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A hash map from int keys to non-null values, kept in two parallel arrays rather than in an entry object per key,
+ * so that keys are never boxed.
+ * A key is kept in the first free slot at or after the slot its hash picks. The arrays are kept at most half full,
+ * and removing a key moves the keys after it back into the freed slot where they can, so a lookup can stop at the
+ * first free slot it sees.
+ *
+ * @param <V> the type of the values in the map
+ */
+public class IntObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    // A null value marks a free slot
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntObjectHashMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map that can hold {@code expectedSize} keys without growing.
+     */
+    public IntObjectHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if the map has a value for {@code key}.
+     */
+    public boolean containsKey(int key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value for {@code key}, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = slotOf(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    /**
+     * Sets the value for {@code key} to {@code value}, returning the value it replaced, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        requireNonNull(value);
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            V oldValue = (V) values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+
+        slot = -slot - 1;
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size > keys.length / 2) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value for {@code key}, returning it, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V oldValue = (V) values[slot];
+        removeAt(slot);
+        return oldValue;
+    }
+
+    /**
+     * Removes the value for {@code key} only if it is {@code value}, returning true if it was removed.
+     */
+    public boolean remove(int key, Object value) {
+        int slot = slotOf(key);
+        if (slot < 0 || !values[slot].equals(value)) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Removes every key from the map.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Performs {@code action} on each value in the map, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        requireNonNull(action);
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or {@code -slot - 1} for the free slot it would be put in if it is not in
+     * the map.
+     */
+    private int slotOf(int key) {
+        for (int slot = hash(key); ; slot = (slot + 1) & mask) {
+            if (values[slot] == null) {
+                return -slot - 1;
+            }
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+    }
+
+    private void removeAt(int slot) {
+        int free = slot;
+        for (int next = (free + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            // The key at next can only be moved back if the free slot is not before the slot its hash picks
+            int home = hash(keys[next]);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        values[free] = null;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = -slotOf(oldKeys[i]) - 1;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int hash(int key) {
+        // Spreads keys that differ only in their high bits, or only by a multiple of the capacity
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Returns the smallest power of two that keeps {@code size} keys at most half full.
+     */
+    static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < size) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.teachstack.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating strings against fixed formats.
+ * Unlike {@link String#matches(String)}, none of these compile a regex on each call.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns a validator that accepts strings matching {@code regex} in full.
+     * {@code regex} is compiled once, when the validator is created.
+     * The returned validator throws {@code NullPointerException} when given null.
+     */
+    public static Predicate<String> matching(String regex) {
+        requireNonNull(regex);
+        Pattern pattern = Pattern.compile(regex);
+        return test -> pattern.matcher(requireNonNull(test)).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is {@code prefix}, followed by exactly {@code digitCount} digits from [0-9],
+     * followed by one letter from [A-Z].
+     *   <br>examples:<pre>
+     *       isPrefixedDigitsAndLetter("A0123456X", 'A', 7) == true
+     *       isPrefixedDigitsAndLetter("A0123456x", 'A', 7) == false //lowercase suffix
+     *       isPrefixedDigitsAndLetter("A012345X", 'A', 7) == false //too few digits
+     *       </pre>
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean isPrefixedDigitsAndLetter(String test, char prefix, int digitCount) {
+        requireNonNull(test);
+        if (test.length() != digitCount + 2 || test.charAt(0) != prefix) {
+            return false;
+        }
+        for (int i = 1; i <= digitCount; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        char suffix = test.charAt(digitCount + 1);
+        return suffix >= 'A' && suffix <= 'Z';
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.teachstack.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.teachstack.commons.core.GuiSettings;
@@ -24,6 +27,44 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a background thread, after the commands given to this method before it, and returns
+     * its result when it is done.
+     * The changes the command makes are published, and the returned future completed, by tasks given to
+     * {@code publisher}, which must run them in order on the thread that reads the lists returned by this component.
+     * The future is completed exceptionally with a {@code CommandException} or {@code ParseException} if the command
+     * fails.
+     * @param commandText The command as entered by the user.
+     * @param publisher Runs the tasks that change what the lists returned by this component show.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText, Executor publisher);
+
+    /**
+     * Returns true if the command can be executed now.
+     * Commands that use the data can only be executed once the data has been loaded.
+     * @param commandText The command as entered by the user.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    boolean canExecute(String commandText) throws ParseException;
+
+    /**
+     * Returns true if the data has been loaded.
+     *
+     * @see seedu.teachstack.model.Model#isDataLoaded()
+     */
+    boolean isDataLoaded();
+
+    /**
+     * Sets the handler that is given an error message whenever saving data fails.
+     * Data is saved in the background, so the handler may be called from any thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Saves all changes that have not been saved yet, and waits for the save to finish.
+     */
+    void flush();
+
     /**
      * Returns the AddressBook.
      *
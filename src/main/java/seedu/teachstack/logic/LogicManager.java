@@ -1,10 +1,20 @@
 package seedu.teachstack.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.teachstack.commons.core.GuiSettings;
 import seedu.teachstack.commons.core.LogsCenter;
@@ -18,7 +28,9 @@ import seedu.teachstack.model.Model;
 import seedu.teachstack.model.ReadOnlyAddressBook;
 import seedu.teachstack.model.ReadOnlyArchivedBook;
 import seedu.teachstack.model.person.Person;
+import seedu.teachstack.storage.JsonSerializableUserData;
 import seedu.teachstack.storage.Storage;
+import seedu.teachstack.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -29,50 +41,188 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** The longest time a change may wait before it starts being saved. */
+    public static final long SAVE_DELAY_MILLIS = 200;
+
+    private static final String COMMAND_THREAD_NAME = "command-executor";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
     private final ArchivedBookParser archivedBookParser;
+    private final WriteBehindSaver saver;
+    // Executes one command at a time, in the order they are given
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, COMMAND_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<String> saveErrorHandler = message -> {};
+
+    // What was last handed to the saver, so that unchanged data is not saved again. Null until the first save.
+    private volatile Long savedAddressBookCount;
+    private volatile Long savedArchivedBookCount;
+    private volatile JsonSerializableUserData savedUserData;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that starts saving changes at most {@code saveDelayMillis} after they
+     * are made.
+     */
+    LogicManager(Model model, Storage storage, long saveDelayMillis) {
         this.model = model;
-        this.storage = storage;
         addressBookParser = new AddressBookParser();
         archivedBookParser = new ArchivedBookParser();
+        saver = new WriteBehindSaver(storage, saveDelayMillis, this::handleSaveError);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, Runnable::run);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText, Executor publisher) {
+        requireNonNull(publisher);
+        CompletableFuture<CommandResult> futureResult = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = execute(commandText, publisher);
+                publisher.execute(() -> futureResult.complete(commandResult));
+            } catch (Throwable e) {
+                // Errors too, as a future that is never completed would leave its caller waiting for good
+                publisher.execute(() -> futureResult.completeExceptionally(e));
+            }
+        });
+        return futureResult;
+    }
+
+    /**
+     * Executes the command and returns the result, using {@code publisher} to end the batch of changes the command
+     * makes, so that the model's lists only change on the thread that {@code publisher} runs tasks on.
+     * Waits for the batch to end before returning.
+     */
+    private CommandResult execute(String commandText, Executor publisher) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        boolean isArchivedBookCommand = commandText.contains("archived");
         CommandResult commandResult;
-        Command command;
+        Command command = parseCommand(commandText);
+        if (command.isDataNeeded() && !model.isDataLoaded()) {
+            throw new CommandException(Messages.MESSAGE_DATA_NOT_LOADED);
+        }
 
-        if (isArchivedBookCommand) {
-            command = archivedBookParser.parseCommand(commandText);
+        if (!command.isDataNeeded()) {
+            // Such commands leave the model alone, and may execute while the data is being loaded into it
+            commandResult = command.execute(model);
         } else {
-            command = addressBookParser.parseCommand(commandText);
+            commandResult = executeInBatch(command, publisher);
         }
 
-        commandResult = command.execute(model);
+        // Saving before the data has loaded would overwrite the data files with only the part loaded so far
+        if (model.isDataLoaded()) {
+            requestSaveOfChangedData();
+        }
 
+        return commandResult;
+    }
+
+    /**
+     * Executes the command in a batch, so that its changes are shown together when it succeeds, and undone if it
+     * fails part way through.
+     */
+    private CommandResult executeInBatch(Command command, Executor publisher) throws CommandException {
+        model.beginBatch();
+        boolean isSuccessful = false;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveArchivedBook(model.getArchivedBook());
-            storage.saveUserData();
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            CommandResult commandResult = command.execute(model);
+            isSuccessful = true;
+            return commandResult;
+        } catch (UncheckedIOException e) {
+            // Thrown when a change could not be written to a data file that changes are written through to
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getCause().getMessage()), e);
+        } finally {
+            CompletableFuture.runAsync(isSuccessful ? model::commit : model::rollback, publisher).join();
         }
+    }
 
-        return commandResult;
+    @Override
+    public boolean canExecute(String commandText) throws ParseException {
+        return model.isDataLoaded() || !parseCommand(commandText).isDataNeeded();
+    }
+
+    @Override
+    public boolean isDataLoaded() {
+        return model.isDataLoaded();
+    }
+
+    private Command parseCommand(String commandText) throws ParseException {
+        boolean isArchivedBookCommand = commandText.contains("archived");
+        if (isArchivedBookCommand) {
+            return archivedBookParser.parseCommand(commandText);
+        } else {
+            return addressBookParser.parseCommand(commandText);
+        }
+    }
+
+    /**
+     * Asks the saver to save the data that has changed since it was last asked to.
+     * Persons are immutable, so a copy of a book's list of persons is enough to let it be saved in the background.
+     */
+    private void requestSaveOfChangedData() {
+        long addressBookCount = model.getAddressBook().getModificationCount();
+        if (savedAddressBookCount == null || savedAddressBookCount != addressBookCount) {
+            savedAddressBookCount = addressBookCount;
+            saver.requestSaveAddressBook(new AddressBookSnapshot(model.getAddressBook()));
+        }
+
+        // An archived book that writes its changes through to its data file is already saved
+        long archivedBookCount = model.getArchivedBook().getModificationCount();
+        if (!model.getArchivedBook().isWriteThrough()
+                && (savedArchivedBookCount == null || savedArchivedBookCount != archivedBookCount)) {
+            savedArchivedBookCount = archivedBookCount;
+            saver.requestSaveArchivedBook(new ArchivedBookSnapshot(model.getArchivedBook()));
+        }
+
+        // User data is only a few fields, so comparing it with what was last saved is cheap
+        JsonSerializableUserData userData = new JsonSerializableUserData();
+        if (!userData.equals(savedUserData)) {
+            savedUserData = userData;
+            saver.requestSaveUserData();
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void flush() {
+        saver.flush();
+    }
+
+    private void handleSaveError(Exception e) {
+        // Save everything again after the next command, as it is not known what was left unsaved
+        savedAddressBookCount = null;
+        savedArchivedBookCount = null;
+        savedUserData = null;
+
+        if (e instanceof AccessDeniedException) {
+            saveErrorHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else if (e instanceof IOException) {
+            saveErrorHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        } else {
+            // An unexpected exception may have no message, so its type is shown as well
+            saveErrorHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e));
+        }
     }
 
     @Override
@@ -114,4 +264,59 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * The persons of an address book as of when it was created, copied without rebuilding the indexes a
+     * {@code UniquePersonList} keeps.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long modificationCount;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+            modificationCount = addressBook.getModificationCount();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return modificationCount;
+        }
+    }
+
+    /**
+     * The persons of an archived book as of when it was created, copied without rebuilding the indexes a
+     * {@code UniquePersonList} keeps.
+     */
+    private static class ArchivedBookSnapshot implements ReadOnlyArchivedBook {
+        private final ObservableList<Person> archivedPersons;
+        private final long modificationCount;
+
+        ArchivedBookSnapshot(ReadOnlyArchivedBook archivedBook) {
+            archivedPersons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(archivedBook.getArchivedList())));
+            modificationCount = archivedBook.getModificationCount();
+        }
+
+        @Override
+        public ObservableList<Person> getArchivedList() {
+            return archivedPersons;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return modificationCount;
+        }
+
+        @Override
+        public boolean isWriteThrough() {
+            return false;
+        }
+    }
 }
@@ -18,6 +18,9 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_DATA_NOT_LOADED = "The data is still loading. Please try again in a moment.";
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "The data is still loading. \"%1$s\" will run once it has loaded.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
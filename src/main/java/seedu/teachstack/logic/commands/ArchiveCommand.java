@@ -2,9 +2,6 @@ package seedu.teachstack.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-import java.util.Optional;
-
 import seedu.teachstack.commons.util.ToStringBuilder;
 import seedu.teachstack.logic.Messages;
 import seedu.teachstack.logic.commands.exceptions.CommandException;
@@ -36,17 +33,12 @@ public class ArchiveCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> list = model.getAddressBook().getPersonList();
-
-        Optional<Person> personOptional = list.stream()
-                .filter(p -> p.getStudentId().equals(targetId))
-                .findFirst();
+        Person personToArchive = model.getPerson(targetId);
 
-        if (!personOptional.isPresent()) {
+        if (personToArchive == null) {
             throw new CommandException(Messages.MESSAGE_INVALID_DISPLAYED_STUDENT_ID);
         }
 
-        Person personToArchive = personOptional.get();
         model.archivePerson(personToArchive);
         return new CommandResult(String.format(MESSAGE_ARCHIVE_PERSON_SUCCESS, Messages.format(personToArchive)));
     }
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command uses the data in the model, and so can only be executed once it has been loaded.
+     */
+    public boolean isDataNeeded() {
+        return true;
+    }
+
 }
@@ -34,7 +34,7 @@ public class FindCommand extends Command {
         model.updateFilteredPersonList(predicate);
         JsonSerializableUserData.setLastRequestedFind(predicate);
         return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonCount()));
     }
 
     @Override
@@ -3,14 +3,17 @@ package seedu.teachstack.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.teachstack.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.teachstack.logic.parser.CliSyntax.PREFIX_STUDENTID;
+import static seedu.teachstack.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.teachstack.commons.util.ToStringBuilder;
 import seedu.teachstack.logic.commands.exceptions.CommandException;
 import seedu.teachstack.model.Model;
 import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
 import seedu.teachstack.model.person.Person;
 import seedu.teachstack.model.person.StudentId;
 
@@ -38,7 +41,6 @@ public class GroupCommand extends Command {
     public static final String MESSAGE_CLEAR_SUCCESS = "All specified students were removed from any existing groups!";
     public static final String STUDENTS_NOT_FOUND = "The command was not successful as these students were not found: ";
     private final Set<Group> group;
-    private final Set<Group> noGroup = new HashSet<>(); //Empty group
     private final Set<StudentId> studentIds;
 
     /**
@@ -60,78 +62,37 @@ public class GroupCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        String missingStudentIds = getMissingStudentIds(model);
-
-        if (missingStudentIds != null) {
-            throw new CommandException(STUDENTS_NOT_FOUND + missingStudentIds);
-        }
-
-        if (group.size() == 0) {
-            for (StudentId studentId : studentIds) {
-                clearGroups(model, studentId);
-            }
-            return new CommandResult(MESSAGE_CLEAR_SUCCESS);
-        }
 
+        // Each student is looked up once, and no student is changed unless all of them are found
+        Map<StudentId, Set<Group>> groupChanges = new HashMap<>();
+        String missingIds = "";
         for (StudentId studentId : studentIds) {
-            //get the existing groups
             Person currentPerson = model.getPerson(studentId);
-
-            Set<Group> newGroup = new HashSet<>();
-            Set<Group> existingGroup = currentPerson.getGroups();
-            newGroup.addAll(group);
-            newGroup.addAll(existingGroup);
-
-            addGroups(newGroup, model, studentId);
-
-            //there's a dependency on EditCommand, but this for loop shouldn't cause EditCommand to throw any exception.
+            if (currentPerson == null) {
+                missingIds += studentId + " ";
+            } else {
+                groupChanges.put(studentId, getNewGroups(currentPerson));
+            }
         }
-        return new CommandResult(MESSAGE_GROUP_SUCCESS);
-    }
 
-    /**
-     * Clears all groups of a student with a particular studentId.
-     *
-     * @param model Provided model
-     * @param studentId StudentId of student
-     * @throws CommandException
-     */
-    private void clearGroups(Model model, StudentId studentId) throws CommandException {
-        addGroups(noGroup, model, studentId);
-    }
+        if (!missingIds.equals("")) {
+            throw new CommandException(STUDENTS_NOT_FOUND + missingIds);
+        }
 
-    /**
-     * @param groups Set of Groups to student to (on top of existing groups)
-     * @param model Provided model
-     * @param studentId StudentId of student
-     * @throws CommandException
-     */
-    private void addGroups(Set<Group> groups, Model model, StudentId studentId) throws CommandException {
-        EditCommand.EditPersonDescriptor editPersonDescriptor = new EditCommand.EditPersonDescriptor();
-        editPersonDescriptor.setGroups(groups);
-        EditCommand editCommand = new EditCommand(studentId, editPersonDescriptor);
-        editCommand.execute(model);
+        model.setGroups(groupChanges);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(group.size() == 0 ? MESSAGE_CLEAR_SUCCESS : MESSAGE_GROUP_SUCCESS);
     }
 
-
     /**
-     * Get student IDs that are not in the model.
-     * This helps to check that all student IDs are present before executing the command.
-     *
-     * @return String of missing studentIds, or null if there are none.
+     * Returns the groups {@code person} is in after this command: none if no group was given, or the given group on
+     * top of their existing groups.
      */
-    private String getMissingStudentIds(Model model) {
-        String missingIds = "";
-        for (StudentId studentId : studentIds) {
-            Person currentPerson = model.getPerson(studentId);
-            if (currentPerson == null) {
-                missingIds += studentId + " ";
-            }
-        }
-        if (missingIds.equals("")) {
-            return null;
+    private Set<Group> getNewGroups(Person person) {
+        if (group.size() == 0) {
+            return GroupSet.empty();
         }
-        return missingIds;
+        return person.getGroups().union(group);
     }
 
     @Override
@@ -1,11 +1,13 @@
 package seedu.teachstack.logic.commands;
 
 import static seedu.teachstack.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.teachstack.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.teachstack.commons.util.ToStringBuilder;
@@ -79,29 +81,28 @@ public class RandomCommand extends Command {
         return new CommandResult(String.format(MESSAGE_RANDOM_GROUP_SUCCESS, numOfGroup, name));
     }
 
-    private void addToGroup(Model model, List<Person> weak, int groupSize, int irregularSize) throws CommandException {
+    /**
+     * Adds each of the {@code weak} students to their group on top of their existing groups, as a single change to
+     * {@code model}.
+     */
+    private void addToGroup(Model model, List<Person> weak, int groupSize, int irregularSize) {
+        Map<StudentId, Set<Group>> groupChanges = new HashMap<>();
         int count = 0;
         int currGroup = 1;
-        Set<Group> group = null;
-        Set<StudentId> member = null;
         for (Person person : weak) {
-            if (count == 0) {
-                group = new HashSet<>();
-                member = new HashSet<>();
-                group.add(new Group(name + " " + currGroup));
-            }
-            member.add(person.getStudentId());
+            Set<Group> newGroups = person.getGroups().union(Set.of(Group.of(name + " " + currGroup)));
+            groupChanges.put(person.getStudentId(), newGroups);
             count++;
 
             if ((irregularSize == 0 && count == groupSize) || count > groupSize) {
                 count = 0;
                 currGroup++;
-                GroupCommand command = new GroupCommand(group, member);
-                command.execute(model);
             } else if (count == groupSize && irregularSize > 0) {
                 irregularSize--;
             }
         }
+        model.setGroups(groupChanges);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
 
@@ -28,7 +28,7 @@ public class SetWeakThresholdCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Grade.modifyThreshold(newThreshold);
+        model.setWeakThreshold(newThreshold);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_SET_THRESHOLD_SUCCESS));
     }
@@ -1,7 +1,5 @@
 package seedu.teachstack.logic.commands;
 
-import java.util.DoubleSummaryStatistics;
-
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.chart.PieChart;
@@ -9,6 +7,7 @@ import javafx.scene.layout.VBox;
 import seedu.teachstack.logic.commands.exceptions.CommandException;
 import seedu.teachstack.model.Model;
 import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.GradeDistribution;
 import seedu.teachstack.model.person.Person;
 
 
@@ -24,21 +23,17 @@ public class SummaryCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        ObservableList<Person> students = model.getFilteredPersonList();
-        int totalStudents = students.size();
-
-        DoubleSummaryStatistics stats = students.stream()
-                .mapToDouble(student -> student.getGrade().gradeToInt())
-                .summaryStatistics();
+        GradeDistribution distribution = model.getFilteredGradeDistribution();
+        int totalStudents = distribution.getTotal();
 
-        int meanGrade = (int) stats.getAverage();
+        int meanGrade = (int) distribution.getMean();
         String mean = Grade.intToGrade(meanGrade);
-        double standardDeviation = calculateStandardDeviation(students, meanGrade);
+        double standardDeviation = roundStandardDeviation(distribution.getStandardDeviation(meanGrade));
 
         String summaryMessage = String.format(MESSAGE_SUCCESS, totalStudents, mean, standardDeviation);
 
         ObservableList<PieChart.Data> pieChartData = FXCollections.observableArrayList();
-        populate(students, pieChartData);
+        populate(distribution, pieChartData);
 
         // Create the pie chart
         PieChart pieChart = new PieChart(pieChartData);
@@ -52,14 +47,14 @@ public class SummaryCommand extends Command {
     }
 
     /**
-     * Populates the pie chart
-     * @param students
+     * Populates the pie chart, from the highest grade to the lowest
+     * @param distribution
      * @param pieChartData
      */
-    private void populate(ObservableList<Person> students, ObservableList<PieChart.Data> pieChartData) {
-        String[] grades = {"A+", "A", "A-", "B+", "B", "B-", "C+", "C", "D+", "D", "F"};
-        for (String grade : grades) {
-            int count = countStudentsWithGrade(students, grade);
+    private void populate(GradeDistribution distribution, ObservableList<PieChart.Data> pieChartData) {
+        for (int i = GradeDistribution.NUMBER_OF_SLOTS - 1; i >= 1; i--) {
+            String grade = Grade.intToGrade(i);
+            int count = distribution.getCount(Grade.of(grade));
             if (count > 0) {
                 pieChartData.add(new PieChart.Data(grade, count));
             }
@@ -73,17 +68,7 @@ public class SummaryCommand extends Command {
      * @return
      */
     public double calculateStandardDeviation(ObservableList<Person> students, double meanGrade) {
-        double variance = students.stream()
-                .mapToDouble(student -> {
-                    double diff = student.getGrade().gradeToInt() - meanGrade;
-                    return diff * diff;
-                })
-                .average()
-                .orElse(0);
-
-        double standardDeviation = Math.sqrt(variance);
-
-        return Double.parseDouble(String.format("%.3f", standardDeviation));
+        return roundStandardDeviation(GradeDistribution.of(students).getStandardDeviation(meanGrade));
     }
 
     /**
@@ -93,8 +78,13 @@ public class SummaryCommand extends Command {
      * @return
      */
     public int countStudentsWithGrade(ObservableList<Person> students, String grade) {
-        return (int) students.stream()
-                .filter(student -> student.getGrade().toString().equals(grade))
-                .count();
+        if (!Grade.isValidGrade(grade)) {
+            return 0;
+        }
+        return GradeDistribution.of(students).getCount(Grade.of(grade));
+    }
+
+    private static double roundStandardDeviation(double standardDeviation) {
+        return Double.parseDouble(String.format("%.3f", standardDeviation));
     }
 }
@@ -101,7 +101,7 @@ public class ParserUtil {
         if (!Grade.isValidGrade(trimmedGrade)) {
             throw new ParseException(Grade.MESSAGE_CONSTRAINTS);
         }
-        return new Grade(trimmedGrade);
+        return Grade.of(trimmedGrade);
     }
 
     /**
@@ -117,7 +117,7 @@ public class ParserUtil {
         if (!Group.isValidGroupName(trimmedGroup)) {
             throw new ParseException(Group.MESSAGE_CONSTRAINTS);
         }
-        return new Group(trimmedGroup);
+        return Group.of(trimmedGroup);
     }
 
     /**
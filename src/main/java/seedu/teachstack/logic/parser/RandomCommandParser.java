@@ -40,7 +40,7 @@ public class RandomCommandParser implements Parser<RandomCommand> {
 
         String name = argMultimap.getValue(PREFIX_GROUP).orElse("");
 
-        if (name.equals("") || !name.matches(Group.VALIDATION_REGEX)) {
+        if (name.equals("") || !Group.isValidGroupName(name)) {
             throw new ParseException(Group.MESSAGE_CONSTRAINTS);
         }
 
@@ -3,10 +3,15 @@ package seedu.teachstack.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.teachstack.commons.util.ToStringBuilder;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.person.GradeDistribution;
 import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.StudentId;
 import seedu.teachstack.model.person.UniquePersonList;
 
 /**
@@ -86,6 +91,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsByEmail(person);
     }
 
+    /**
+     * Returns the person with the given {@code studentId} in the address book, or null if there is none.
+     */
+    public Person getPerson(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.get(studentId);
+    }
+
+    /**
+     * Returns the number of persons in the address book with each grade.
+     */
+    public GradeDistribution getGradeDistribution() {
+        return persons.getGradeDistribution();
+    }
+
+    /**
+     * Returns the number of persons in the address book with each grade who are members of every group in
+     * {@code groups}.
+     */
+    public GradeDistribution getGradeDistribution(Set<Group> groups) {
+        requireNonNull(groups);
+        return persons.getGradeDistribution(groups);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -94,6 +123,52 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the end of the address book.
+     * {@code persons} must not contain duplicate persons, or persons that already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
+    /**
+     * Begins a batch of changes to the address book, which listeners of {@link #getPersonList()} do not see until
+     * {@link #commitBatch()}.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of changes, firing them to listeners of {@link #getPersonList()} as a single change.
+     */
+    public void commitBatch() {
+        persons.commitBatch();
+    }
+
+    /**
+     * Ends the current batch of changes, undoing them.
+     */
+    public void rollbackBatch() {
+        persons.rollbackBatch();
+    }
+
+    /**
+     * Returns the persons from position {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) of the address
+     * book, including changes made in a batch that has not been committed.
+     */
+    public List<Person> getPersons(int fromIndex, int toIndex) {
+        return persons.getPersons(fromIndex, toIndex);
+    }
+
+    /**
+     * Adds a person to a sorted address book at its sorted position.
+     * The person must not already exist in the address book.
+     */
+    public void addPersonSorted(Person p) {
+        persons.addSorted(p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -105,6 +180,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces the given person {@code target} in a sorted address book with {@code editedPerson}, keeping the
+     * address book sorted.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    public void setPersonSorted(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        persons.setPersonSorted(target, editedPerson);
+    }
+
+    /**
+     * Replaces the groups of each person whose {@code StudentId} is a key of {@code groupChanges} with the groups it
+     * maps to. Every student ID must belong to a person in the address book.
+     */
+    public void setGroups(Map<StudentId, Set<Group>> groupChanges) {
+        persons.setGroups(groupChanges);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -122,6 +217,11 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public long getModificationCount() {
+        return persons.getModificationCount();
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -7,6 +7,8 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.teachstack.commons.util.ToStringBuilder;
 import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.PersonStore;
+import seedu.teachstack.model.person.StudentId;
 import seedu.teachstack.model.person.UniquePersonList;
 
 /**
@@ -14,20 +16,19 @@ import seedu.teachstack.model.person.UniquePersonList;
  * Duplicates are not allowed (by .isSamePerson comparison)
  */
 public class ArchivedBook implements ReadOnlyArchivedBook {
-    private final UniquePersonList archivedPersons;
-
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        archivedPersons = new UniquePersonList();
+    private final PersonStore archivedPersons;
+
+    public ArchivedBook() {
+        this(new UniquePersonList());
     }
 
-    public ArchivedBook() {}
+    /**
+     * Creates an ArchivedBook that keeps its persons in {@code archivedPersons}.
+     */
+    public ArchivedBook(PersonStore archivedPersons) {
+        requireNonNull(archivedPersons);
+        this.archivedPersons = archivedPersons;
+    }
 
     /**
      * Creates an ArchivedBook using the Persons in the {@code toBeCopied}
@@ -67,12 +68,11 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
     }
 
     /**
-     * Adds a person to the archived book.
+     * Adds a person to the archived book at its sorted position.
      * The person must not already exist in the archived book.
      */
     public void addPerson(Person p) {
         archivedPersons.addToArchive(p);
-        archivedPersons.sort();
     }
 
     /**
@@ -85,6 +85,17 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
         archivedPersons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces the given person {@code target} in a sorted archived book with {@code editedPerson}, keeping the
+     * archived book sorted.
+     * {@code target} must exist in the archived book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the archived book.
+     */
+    public void setPersonSorted(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        archivedPersons.setPersonSorted(target, editedPerson);
+    }
+
     /**
      * Removes {@code key} from this {@code ArchivedBook}.
      * {@code key} must exist in the archived book.
@@ -109,6 +120,13 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
         return archivedPersons.containsByEmail(person);
     }
 
+    /**
+     * Returns the person with the given {@code studentId} in the archived book, or null if there is none.
+     */
+    public Person getArchivedPerson(StudentId studentId) {
+        requireNonNull(studentId);
+        return archivedPersons.get(studentId);
+    }
 
     //// util methods
 
@@ -119,11 +137,36 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
                 .toString();
     }
 
+    /**
+     * Begins a batch of changes to the archived book, which listeners of {@link #getArchivedList()} do not see until
+     * {@link #commitBatch()}.
+     */
+    public void beginBatch() {
+        archivedPersons.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of changes, firing them to listeners of {@link #getArchivedList()} as a single change.
+     */
+    public void commitBatch() {
+        archivedPersons.commitBatch();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return archivedPersons.getModificationCount();
+    }
+
     @Override
     public ObservableList<Person> getArchivedList() {
         return archivedPersons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public boolean isWriteThrough() {
+        return archivedPersons.isWriteThrough();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -136,12 +179,12 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
         }
 
         ArchivedBook otherArchivedBook = (ArchivedBook) other;
-        return archivedPersons.equals(otherArchivedBook.archivedPersons);
+        return getArchivedList().equals(otherArchivedBook.getArchivedList());
     }
 
     @Override
     public int hashCode() {
-        return archivedPersons.hashCode();
+        return getArchivedList().hashCode();
     }
 
     /**
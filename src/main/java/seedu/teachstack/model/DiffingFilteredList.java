@@ -0,0 +1,246 @@
+package seedu.teachstack.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of a source list that pass a predicate, like {@code FilteredList}, that fires only the
+ * changes that are needed to go from what it showed before to what it shows after.
+ * Changing the predicate compares the old and new matches and fires only the rows that were hidden or shown, and
+ * setting a predicate equal to the current one does nothing. A change to the source list only tests the elements
+ * that were added or updated, so replacing one element fires at most one row.
+ * A null predicate shows every element.
+ */
+class DiffingFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate;
+    // The ascending indexes in the source list of the elements shown
+    private int[] filtered;
+    private int size;
+
+    /**
+     * Creates a {@code DiffingFilteredList} that shows every element of {@code source}.
+     */
+    DiffingFilteredList(ObservableList<E> source) {
+        super(source);
+        filtered = new int[source.size()];
+        size = source.size();
+        for (int i = 0; i < size; i++) {
+            filtered[i] = i;
+        }
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements that pass {@code predicate}, or every element if it is null.
+     * Nothing is done if {@code predicate} is equal to the current predicate, so a predicate that depends on
+     * anything other than the element must be replaced by one that is not equal to it when that changes.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        if (Objects.equals(predicate, this.predicate)) {
+            return;
+        }
+        this.predicate = predicate;
+
+        ObservableList<? extends E> source = getSource();
+        int[] newFiltered = new int[source.size()];
+        int newSize = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (matches(source.get(i))) {
+                newFiltered[newSize++] = i;
+            }
+        }
+
+        // Both index arrays are ascending, so walking them together finds the runs of rows hidden and shown
+        int[] oldFiltered = filtered;
+        int oldSize = size;
+        filtered = newFiltered;
+        size = newSize;
+        beginChange();
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (oldIndex < oldSize || newIndex < newSize) {
+            if (newIndex == newSize || oldIndex < oldSize && oldFiltered[oldIndex] < newFiltered[newIndex]) {
+                List<E> removed = new ArrayList<>();
+                while (oldIndex < oldSize && (newIndex == newSize || oldFiltered[oldIndex] < newFiltered[newIndex])) {
+                    removed.add(source.get(oldFiltered[oldIndex++]));
+                }
+                nextRemove(newIndex, removed);
+            } else if (oldIndex == oldSize || newFiltered[newIndex] < oldFiltered[oldIndex]) {
+                int from = newIndex;
+                while (newIndex < newSize && (oldIndex == oldSize || newFiltered[newIndex] < oldFiltered[oldIndex])) {
+                    newIndex++;
+                }
+                nextAdd(from, newIndex);
+            } else {
+                oldIndex++;
+                newIndex++;
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Redisplays the shown elements at positions {@code from} (inclusive) to {@code to} (exclusive) of the source
+     * list, for when they have changed in a way that does not change whether they pass the predicate.
+     */
+    public void refresh(int from, int to) {
+        int viewFrom = lowerBound(from);
+        int viewTo = lowerBound(to);
+        if (viewFrom == viewTo) {
+            return;
+        }
+        beginChange();
+        nextReplace(viewFrom, viewTo, new ArrayList<>(subList(viewFrom, viewTo)));
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(Change<? extends E> c) {
+        int viewFrom = lowerBound(c.getFrom());
+        int viewTo = lowerBound(c.getTo());
+        if (viewFrom == viewTo) {
+            return;
+        }
+
+        // Order the shown rows by their new source index, remembering where each of them was shown before
+        long[] moves = new long[viewTo - viewFrom];
+        for (int i = viewFrom; i < viewTo; i++) {
+            moves[i - viewFrom] = ((long) c.getPermutation(filtered[i]) << Integer.SIZE) | i;
+        }
+        Arrays.sort(moves);
+        int[] permutation = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            int newIndex = viewFrom + i;
+            filtered[newIndex] = (int) (moves[i] >>> Integer.SIZE);
+            permutation[(int) moves[i] - viewFrom] = newIndex;
+        }
+        nextPermutation(viewFrom, viewTo, permutation);
+    }
+
+    private void update(Change<? extends E> c) {
+        ObservableList<? extends E> source = getSource();
+        for (int i = c.getFrom(); i < c.getTo(); i++) {
+            int viewIndex = lowerBound(i);
+            boolean wasShown = viewIndex < size && filtered[viewIndex] == i;
+            boolean isShown = matches(source.get(i));
+            if (wasShown && isShown) {
+                nextUpdate(viewIndex);
+            } else if (wasShown) {
+                System.arraycopy(filtered, viewIndex + 1, filtered, viewIndex, size - viewIndex - 1);
+                size--;
+                nextRemove(viewIndex, source.get(i));
+            } else if (isShown) {
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, viewIndex, filtered, viewIndex + 1, size - viewIndex);
+                filtered[viewIndex] = i;
+                size++;
+                nextAdd(viewIndex, viewIndex + 1);
+            }
+        }
+    }
+
+    private void addRemove(Change<? extends E> c) {
+        int from = c.getFrom();
+        int removedSize = c.getRemovedSize();
+        int addedSize = c.getAddedSize();
+        int viewFrom = lowerBound(from);
+        int viewTo = lowerBound(from + removedSize);
+
+        List<E> removed = new ArrayList<>(viewTo - viewFrom);
+        for (int i = viewFrom; i < viewTo; i++) {
+            removed.add(c.getRemoved().get(filtered[i] - from));
+        }
+        List<? extends E> added = c.getAddedSubList();
+        int[] addedShown = new int[addedSize];
+        int addedShownSize = 0;
+        for (int i = 0; i < addedSize; i++) {
+            if (matches(added.get(i))) {
+                addedShown[addedShownSize++] = from + i;
+            }
+        }
+
+        // Rows after the change keep their place, but their source indexes move by the change in size
+        int shift = addedSize - removedSize;
+        int newSize = size - removed.size() + addedShownSize;
+        ensureCapacity(newSize);
+        System.arraycopy(filtered, viewTo, filtered, viewFrom + addedShownSize, size - viewTo);
+        System.arraycopy(addedShown, 0, filtered, viewFrom, addedShownSize);
+        for (int i = viewFrom + addedShownSize; i < newSize; i++) {
+            filtered[i] += shift;
+        }
+        size = newSize;
+
+        if (!removed.isEmpty() && addedShownSize > 0) {
+            nextReplace(viewFrom, viewFrom + addedShownSize, removed);
+        } else if (!removed.isEmpty()) {
+            nextRemove(viewFrom, removed);
+        } else if (addedShownSize > 0) {
+            nextAdd(viewFrom, viewFrom + addedShownSize);
+        }
+    }
+
+    private boolean matches(E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    /**
+     * Returns the position of the first shown element whose source index is not less than {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int index = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, index);
+        return viewIndex >= 0 ? viewIndex : -1;
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -2,10 +2,15 @@ package seedu.teachstack.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.teachstack.commons.core.GuiSettings;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.GradeDistribution;
 import seedu.teachstack.model.person.Person;
 import seedu.teachstack.model.person.StudentId;
 
@@ -64,6 +69,26 @@ public interface Model {
      */
     void setArchivedBookFilePath(Path archivedBookFilePath);
 
+    /**
+     * Begins a batch of changes to the model, which ends with {@link #commit()} or {@link #rollback()}.
+     * Until then, the person lists returned by the model keep showing the persons as they were before the batch, and
+     * are not changed, so they can be read from another thread while the batch is being made. Lookups such as
+     * {@link #getPerson(StudentId)} see each change as it is made.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch, publishing the changes made to each person list in it as a single change, and applying
+     * the filters and weak threshold set in it.
+     */
+    void commit();
+
+    /**
+     * Ends the current batch, undoing every change made to the address book and archived book in it, and the
+     * filters and weak threshold set in it.
+     */
+    void rollback();
+
     /**
      * Replaces archived book data with the data in {@code archivedBook}.
      */
@@ -72,6 +97,24 @@ public interface Model {
     /** Returns the ArchivedBook */
     ReadOnlyArchivedBook getArchivedBook();
 
+    /**
+     * Returns true if the address book and archived book have been loaded.
+     * Commands that use the data should only be executed once it has been loaded.
+     */
+    boolean isDataLoaded();
+
+    /**
+     * Adds {@code persons}, which were just loaded in the order they are sorted in, to the end of the address book.
+     * The data must not have been loaded yet.
+     */
+    void addLoadedPersons(List<Person> persons);
+
+    /**
+     * Marks the data as loaded, with {@code archivedBook} as the archived book.
+     * The data must not have been loaded yet.
+     */
+    void finishLoading(ReadOnlyArchivedBook archivedBook);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -123,12 +166,34 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces the groups of each person whose {@code StudentId} is a key of {@code groupChanges} with the groups it
+     * maps to, as a single change to the address book.
+     * Every student ID must belong to a person in the address book, and no person is changed if one does not.
+     */
+    void setGroups(Map<StudentId, Set<Group>> groupChanges);
+
     /** Returns a person with the given {@code id}. */
     Person getPerson(StudentId id);
 
     /** Returns a list of persons that are marked weak. */
     List<Person> getWeak();
 
+    /**
+     * Sets the grade at or below which persons are weak to {@code threshold}, and redisplays the persons whose
+     * weakness changed.
+     */
+    void setWeakThreshold(Grade threshold);
+
+    /** Returns the number of persons in the filtered person list with each grade. */
+    GradeDistribution getFilteredGradeDistribution();
+
+    /**
+     * Returns the number of persons in the filtered person list, including the changes made in the current batch,
+     * which the list does not show until the batch is committed.
+     */
+    int getFilteredPersonCount();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
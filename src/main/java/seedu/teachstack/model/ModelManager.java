@@ -4,16 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.teachstack.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.teachstack.commons.core.GuiSettings;
 import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.GradeDistribution;
 import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.PersonInGroupPredicate;
 import seedu.teachstack.model.person.StudentId;
 
 /**
@@ -24,10 +34,20 @@ public class ModelManager implements Model {
     private static Predicate<Person> startingFilter = PREDICATE_SHOW_ALL_PERSONS;
 
     private final AddressBook addressBook;
-    private final ArchivedBook archivedBook;
+    private ArchivedBook archivedBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Person> filteredArchivedPersons;
+    private final DiffingFilteredList<Person> filteredPersons;
+    private FilteredList<Person> filteredArchivedPersons;
+    private Predicate<Person> filteredPersonsPredicate;
+    private Predicate<Person> filteredArchivedPredicate;
+    private boolean isDataLoaded = true;
+    private boolean isInBatch;
+    // The filters and weak threshold when the current batch began, as the lists keep showing them until it ends
+    private Predicate<Person> batchPersonsPredicate;
+    private Predicate<Person> batchArchivedPredicate;
+    private Grade batchThreshold;
+    // The archived book is usually kept in its data file, so changes to it in a batch are undone rather than held
+    private final List<Runnable> archivedBookUndos = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,19 +59,41 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        this.archivedBook = new ArchivedBook(archivedBook);
+        setArchivedBookInstance(archivedBook);
         this.addressBook.sort();
-        this.archivedBook.sort();
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new DiffingFilteredList<>(this.addressBook.getPersonList());
+        filteredPersonsPredicate = PREDICATE_SHOW_ALL_PERSONS;
         updateFilteredPersonList(startingFilter);
-        filteredArchivedPersons = new FilteredList<>(this.archivedBook.getArchivedList());
+    }
+
+    /**
+     * Initializes a ModelManager with the given userPrefs, whose data is still to be loaded.
+     * Until {@link #finishLoading(ReadOnlyArchivedBook)} is called, the address book only holds the persons given to
+     * {@link #addLoadedPersons(List)}, and the archived book is empty.
+     */
+    public ModelManager(ReadOnlyUserPrefs userPrefs) {
+        this(new AddressBook(), new ArchivedBook(), userPrefs);
+        isDataLoaded = false;
     }
 
     public ModelManager() {
         this(new AddressBook(), new ArchivedBook(), new UserPrefs());
     }
 
+    /**
+     * Uses {@code archivedBook} as the archived book, sorting it and showing all of its persons.
+     */
+    private void setArchivedBookInstance(ReadOnlyArchivedBook archivedBook) {
+        // An archived book kept in its data file is used as is, so that its persons are only read when needed
+        this.archivedBook = archivedBook.isWriteThrough()
+                ? (ArchivedBook) archivedBook
+                : new ArchivedBook(archivedBook);
+        this.archivedBook.sort();
+        filteredArchivedPersons = new FilteredList<>(this.archivedBook.getArchivedList());
+        filteredArchivedPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -113,8 +155,10 @@ public class ModelManager implements Model {
 
     @Override
     public void setArchivedBook(ReadOnlyArchivedBook archivedBook) {
+        List<Person> replacedPersons = isInBatch ? new ArrayList<>(this.archivedBook.getArchivedList()) : null;
         this.archivedBook.resetData(archivedBook);
         this.archivedBook.sort();
+        recordArchivedBookUndo(() -> this.archivedBook.setPersons(replacedPersons));
     }
 
     @Override
@@ -122,6 +166,97 @@ public class ModelManager implements Model {
         return archivedBook;
     }
 
+    //=========== Batches ====================================================================================
+
+    @Override
+    public void beginBatch() {
+        assert !isInBatch;
+        addressBook.beginBatch();
+        archivedBook.beginBatch();
+        batchPersonsPredicate = filteredPersonsPredicate;
+        batchArchivedPredicate = filteredArchivedPredicate;
+        batchThreshold = Grade.retrieveThreshold();
+        isInBatch = true;
+    }
+
+    @Override
+    public void commit() {
+        assert isInBatch;
+        isInBatch = false;
+        archivedBookUndos.clear();
+        addressBook.commitBatch();
+        archivedBook.commitBatch();
+        if (!Objects.equals(filteredPersonsPredicate, batchPersonsPredicate)) {
+            filteredPersons.setPredicate(resolvePredicate(filteredPersonsPredicate));
+        }
+        if (!Objects.equals(filteredArchivedPredicate, batchArchivedPredicate)) {
+            refilterArchivedPersons();
+        }
+        if (!Grade.retrieveThreshold().equals(batchThreshold)) {
+            refreshWeakPersons(batchThreshold, Grade.retrieveThreshold());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The archived book is undone while its batch is still in progress, so listeners only see the net change, if any,
+     * that undoing it made to its order.
+     */
+    @Override
+    public void rollback() {
+        assert isInBatch;
+        isInBatch = false;
+        addressBook.rollbackBatch();
+        for (int i = archivedBookUndos.size() - 1; i >= 0; i--) {
+            archivedBookUndos.get(i).run();
+        }
+        archivedBookUndos.clear();
+        archivedBook.commitBatch();
+        filteredPersonsPredicate = batchPersonsPredicate;
+        filteredArchivedPredicate = batchArchivedPredicate;
+        if (!Grade.retrieveThreshold().equals(batchThreshold)) {
+            Grade.modifyThreshold(batchThreshold);
+        }
+    }
+
+    /**
+     * Remembers how to undo a change that was just made to the archived book, if a batch is in progress.
+     */
+    private void recordArchivedBookUndo(Runnable undo) {
+        if (isInBatch) {
+            archivedBookUndos.add(undo);
+        }
+    }
+
+    //=========== Loading ====================================================================================
+
+    @Override
+    public boolean isDataLoaded() {
+        return isDataLoaded;
+    }
+
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        assert !isDataLoaded;
+        addressBook.addPersons(persons);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The archived book is replaced rather than copied into, so {@link #getFilteredArchivedList()} returns a
+     * different list afterwards.
+     */
+    @Override
+    public void finishLoading(ReadOnlyArchivedBook archivedBook) {
+        requireNonNull(archivedBook);
+        assert !isDataLoaded;
+        setArchivedBookInstance(archivedBook);
+        isDataLoaded = true;
+    }
+
+    //=========== Persons ====================================================================================
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -147,58 +282,108 @@ public class ModelManager implements Model {
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        addressBook.sort();
+        addressBook.addPersonSorted(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        addressBook.setPerson(target, editedPerson);
-        addressBook.sort();
+        addressBook.setPersonSorted(target, editedPerson);
+    }
+
+    @Override
+    public void setGroups(Map<StudentId, Set<Group>> groupChanges) {
+        requireNonNull(groupChanges);
+        addressBook.setGroups(groupChanges);
     }
 
     @Override
     public Person getPerson(StudentId id) {
-        List<Person> lastShownList = getAddressBook().getPersonList();
+        requireNonNull(id);
+        return addressBook.getPerson(id);
+    }
+
+    @Override
+    public List<Person> getWeak() {
+        // The address book is sorted by grade, so the weak persons are exactly the ones before the first strong one
+        int weakCount = addressBook.getGradeDistribution().getCountAtOrBelow(Grade.retrieveThreshold());
+        return Collections.unmodifiableList(addressBook.getPersons(0, weakCount));
+    }
 
-        Optional<Person> personOptional = lastShownList.stream()
-                .filter(p -> p.getStudentId().equals(id))
-                .findFirst();
+    /**
+     * {@inheritDoc}
+     * In a batch, the persons are redisplayed when it is committed.
+     */
+    @Override
+    public void setWeakThreshold(Grade threshold) {
+        requireNonNull(threshold);
+        Grade previousThreshold = Grade.retrieveThreshold();
+        Grade.modifyThreshold(threshold);
+        if (!isInBatch) {
+            refreshWeakPersons(previousThreshold, threshold);
+        }
+    }
 
-        return personOptional.orElse(null);
+    /**
+     * Redisplays the persons whose weakness may differ between {@code previousThreshold} and {@code threshold}.
+     * The address book is sorted by grade, so only the persons between the two thresholds are redisplayed.
+     */
+    private void refreshWeakPersons(Grade previousThreshold, Grade threshold) {
+        GradeDistribution gradeDistribution = addressBook.getGradeDistribution();
+        int previousWeakCount = gradeDistribution.getCountAtOrBelow(previousThreshold);
+        int weakCount = gradeDistribution.getCountAtOrBelow(threshold);
+        filteredPersons.refresh(Math.min(previousWeakCount, weakCount), Math.max(previousWeakCount, weakCount));
     }
 
     @Override
-    public List<Person> getWeak() {
-        List<Person> weak = getAddressBook().getPersonList().filtered(person -> {
-            return person.isWeak();
-        });
-        return weak;
+    public GradeDistribution getFilteredGradeDistribution() {
+        if (filteredPersonsPredicate == PREDICATE_SHOW_ALL_PERSONS) {
+            return addressBook.getGradeDistribution();
+        }
+        if (filteredPersonsPredicate instanceof PersonInGroupPredicate) {
+            return addressBook.getGradeDistribution(((PersonInGroupPredicate) filteredPersonsPredicate).getGroups());
+        }
+        return GradeDistribution.of(getPersonsPassingFilter());
+    }
+
+    @Override
+    public int getFilteredPersonCount() {
+        if (filteredPersonsPredicate == PREDICATE_SHOW_ALL_PERSONS
+                || filteredPersonsPredicate instanceof PersonInGroupPredicate) {
+            return getFilteredGradeDistribution().getTotal();
+        }
+        return getPersonsPassingFilter().size();
+    }
+
+    /**
+     * Returns the persons in the address book that pass the filter of the filtered person list, including the changes
+     * made in the current batch. Each person is tested against the filter, so group filters, which are counted from
+     * the address book's columns instead, should not be answered from here.
+     */
+    private Collection<Person> getPersonsPassingFilter() {
+        assert !(filteredPersonsPredicate instanceof PersonInGroupPredicate);
+        int size = addressBook.getGradeDistribution().getTotal();
+        return addressBook.getPersons(0, size).stream().filter(filteredPersonsPredicate).collect(Collectors.toList());
     }
 
     @Override
     public void setArchivedPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        archivedBook.setPerson(target, editedPerson);
-        archivedBook.sort();
+        archivedBook.setPersonSorted(target, editedPerson);
+        recordArchivedBookUndo(() -> archivedBook.setPersonSorted(editedPerson, target));
     }
 
     @Override
     public Person getArchivedPerson(StudentId id) {
-        List<Person> lastShownList = getArchivedBook().getArchivedList();
-
-        Optional<Person> personOptional = lastShownList.stream()
-                .filter(p -> p.getStudentId().equals(id))
-                .findFirst();
-
-        return personOptional.orElse(null);
+        requireNonNull(id);
+        return archivedBook.getArchivedPerson(id);
     }
 
     @Override
     public void archivePerson(Person person) {
         archivedBook.addPerson(person);
+        recordArchivedBookUndo(() -> archivedBook.removePerson(person));
         deletePerson(person);
     }
 
@@ -211,6 +396,7 @@ public class ModelManager implements Model {
     @Override
     public void deleteArchivedPerson(Person target) {
         archivedBook.removePerson(target);
+        recordArchivedBookUndo(() -> archivedBook.addPerson(target));
     }
 
     @Override
@@ -242,11 +428,30 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * Every person is tested against the new predicate, which for a group filter compares a few words of their
+     * group bitset. Only the rows that are hidden or shown by it are changed, and nothing is done if
+     * {@code predicate} is equal to the current one. Changes to the address book keep the list up to date without
+     * calling this again. In a batch, the list is only refiltered when the batch is committed.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(null);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(filteredPersonsPredicate)) {
+            return;
+        }
+        filteredPersonsPredicate = predicate;
+        if (!isInBatch) {
+            filteredPersons.setPredicate(resolvePredicate(predicate));
+        }
+    }
+
+    /**
+     * Returns a predicate for the filtered person list equivalent to {@code predicate}, or null to show all persons.
+     */
+    private Predicate<Person> resolvePredicate(Predicate<Person> predicate) {
+        return predicate == PREDICATE_SHOW_ALL_PERSONS ? null : predicate;
     }
 
     @Override
@@ -254,10 +459,23 @@ public class ModelManager implements Model {
         return filteredArchivedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * In a batch, the list is only refiltered when the batch is committed.
+     */
     @Override
     public void updateFilteredArchivedList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredArchivedPersons.setPredicate(predicate);
+        filteredArchivedPredicate = predicate;
+        if (!isInBatch) {
+            refilterArchivedPersons();
+        }
+    }
+
+    private void refilterArchivedPersons() {
+        // Without a predicate, showing the list does not need to look at persons that are not displayed
+        filteredArchivedPersons.setPredicate(
+                filteredArchivedPredicate == PREDICATE_SHOW_ALL_PERSONS ? null : filteredArchivedPredicate);
     }
 
     public static void setStartingFilter(Predicate<Person> predicate) {
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever the persons list is modified.
+     * Two calls that return the same number mean the list has not changed in between.
+     */
+    long getModificationCount();
+
 }
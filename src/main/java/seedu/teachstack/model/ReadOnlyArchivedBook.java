@@ -13,4 +13,16 @@ public interface ReadOnlyArchivedBook {
      * This list will not contain any duplicate persons.
      */
     ObservableList<Person> getArchivedList();
+
+    /**
+     * Returns a number that changes whenever the archived persons list is modified.
+     * Two calls that return the same number mean the list has not changed in between.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns true if changes to this archived book are written to its data file as they are made, so that it never
+     * needs to be saved or copied.
+     */
+    boolean isWriteThrough();
 }
@@ -16,4 +16,21 @@ public interface ReadOnlyUserPrefs {
     Path getArchivedBookFilePath();
 
     Path getUserDataFilePath();
+
+    /**
+     * Returns true if changes to the address book and archive are appended to a journal, instead of rewriting the
+     * whole data file on every save.
+     */
+    boolean isJournalEnabled();
+
+    /**
+     * Returns the format the address book and archive are saved in.
+     */
+    UserPrefs.DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns true if the archive is kept in a file of records that is mapped into memory, so that archived persons
+     * are only read from the file when they are needed.
+     */
+    boolean isMappedArchiveEnabled();
 }
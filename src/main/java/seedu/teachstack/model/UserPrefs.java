@@ -13,10 +13,23 @@ import seedu.teachstack.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * The formats the address book and archive can be saved in.
+     */
+    public enum DataFileFormat {
+        /** Human-readable JSON, at the configured file paths. */
+        JSON,
+        /** A compact binary format that is faster to load, next to the configured file paths. */
+        BINARY
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path archivedBookFilePath = Paths.get("data", "archivedbook.json");
     private Path userDataFilePath = Paths.get("data", "userdata.json");
+    private boolean journalEnabled = true;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private boolean mappedArchiveEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +53,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setArchivedBookFilePath(newUserPrefs.getArchivedBookFilePath());
         setUserDataFilePath(newUserPrefs.getUserDataFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setMappedArchiveEnabled(newUserPrefs.isMappedArchiveEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +94,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.userDataFilePath = userDataFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public boolean isMappedArchiveEnabled() {
+        return mappedArchiveEnabled;
+    }
+
+    public void setMappedArchiveEnabled(boolean mappedArchiveEnabled) {
+        this.mappedArchiveEnabled = mappedArchiveEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +133,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && archivedBookFilePath.equals(otherUserPrefs.archivedBookFilePath);
+                && archivedBookFilePath.equals(otherUserPrefs.archivedBookFilePath)
+                && journalEnabled == otherUserPrefs.journalEnabled
+                && dataFileFormat == otherUserPrefs.dataFileFormat
+                && mappedArchiveEnabled == otherUserPrefs.mappedArchiveEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, archivedBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, archivedBookFilePath, journalEnabled, dataFileFormat,
+                mappedArchiveEnabled);
     }
 
     @Override
@@ -106,6 +151,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nLocal data file location : " + archivedBookFilePath);
+        sb.append("\nJournal changes to data files : " + journalEnabled);
+        sb.append("\nData file format : " + dataFileFormat);
+        sb.append("\nMemory-map archive file : " + mappedArchiveEnabled);
         return sb.toString();
     }
 
@@ -3,9 +3,16 @@ package seedu.teachstack.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.teachstack.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import seedu.teachstack.commons.util.ValidationUtil;
+
 /**
  * Represents a Group in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidGroupName(String)}
+ *
+ * Each distinct group name is given a small int id by a dictionary shared by the whole app, so groups are compared by
+ * their ids, and sets of groups can be kept as bitsets of ids (see {@link GroupSet}).
  */
 public class Group {
 
@@ -13,24 +20,59 @@ public class Group {
             + "and should only contain alphanumeric characters and space";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+(\\s\\p{Alnum}+)*";
 
+    private static final Predicate<String> VALIDATOR = ValidationUtil.matching(VALIDATION_REGEX);
+
     public final String groupName;
+    private final int id;
 
     /**
      * Constructs a {@code Group}.
+     * {@link #of(String)} should be preferred, as it returns the group shared by everything in that group.
      *
      * @param groupName A valid group name.
      */
     public Group(String groupName) {
+        Group sharedGroup = of(groupName);
+        this.groupName = sharedGroup.groupName;
+        this.id = sharedGroup.id;
+    }
+
+    /**
+     * Constructs the group shared by everything in the group named {@code groupName}, with the given {@code id}.
+     */
+    Group(String groupName, int id) {
+        this.groupName = groupName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the group named {@code groupName}, which is shared by everything in that group.
+     *
+     * @param groupName A valid group name.
+     */
+    public static Group of(String groupName) {
         requireNonNull(groupName);
+        // Only valid names are added to the dictionary, so a name found in it need not be checked again
+        Group group = GroupDictionary.find(groupName);
+        if (group != null) {
+            return group;
+        }
         checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
-        this.groupName = groupName;
+        return GroupDictionary.add(groupName);
+    }
+
+    /**
+     * Returns the id of the group, which is unique to its name.
+     */
+    int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid group name.
      */
     public static boolean isValidGroupName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.test(test);
     }
 
     @Override
@@ -45,12 +87,12 @@ public class Group {
         }
 
         Group otherGroup = (Group) other;
-        return groupName.equals(otherGroup.groupName);
+        return id == otherGroup.id;
     }
 
     @Override
     public int hashCode() {
-        return groupName.hashCode();
+        return id;
     }
 
     /**
@@ -0,0 +1,56 @@
+package seedu.teachstack.model.group;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The groups known to the app, each of which is given a small int id the first time its name is seen.
+ * Every group with the same name shares the one name string kept here, and ids are never reused, so a group keeps its
+ * id for as long as the app runs.
+ * Data files are read on several threads, so the dictionary may be used from any thread.
+ */
+final class GroupDictionary {
+
+    private static final Map<String, Group> groupsByName = new ConcurrentHashMap<>();
+    // Replaced rather than changed when it grows, so that readers never need to lock
+    private static volatile Group[] groupsById = new Group[16];
+    private static int groupCount;
+
+    private GroupDictionary() {}
+
+    /**
+     * Returns the shared group named {@code groupName}, or null if the dictionary does not have it.
+     */
+    static Group find(String groupName) {
+        return groupsByName.get(groupName);
+    }
+
+    /**
+     * Returns the shared group named {@code groupName}, which must be a valid group name, adding it to the
+     * dictionary if it is not already in it.
+     */
+    static synchronized Group add(String groupName) {
+        Group group = groupsByName.get(groupName);
+        if (group != null) {
+            return group;
+        }
+
+        group = new Group(groupName, groupCount);
+        Group[] groups = groupsById;
+        if (groupCount == groups.length) {
+            groups = Arrays.copyOf(groups, groups.length * 2);
+        }
+        groups[groupCount++] = group;
+        groupsById = groups;
+        groupsByName.put(groupName, group);
+        return group;
+    }
+
+    /**
+     * Returns the group with the given {@code id}, which must have been given to a group by this dictionary.
+     */
+    static Group get(int id) {
+        return groupsById[id];
+    }
+}
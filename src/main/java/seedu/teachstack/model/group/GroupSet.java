@@ -0,0 +1,212 @@
+package seedu.teachstack.model.group;
+
+import static seedu.teachstack.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of groups, kept as a bitset of the ids of the groups in it.
+ * Checking whether a group is in the set, comparing two sets and combining them work on a few words at a time, rather
+ * than hashing group names, and a set of a handful of groups takes up a single word of bits rather than a hash table.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}, even one that would not change it.
+ */
+public final class GroupSet extends AbstractSet<Group> {
+
+    private static final GroupSet EMPTY = new GroupSet(new long[0]);
+
+    // Bit (id % 64) of words[id / 64] is set if the group with that id is in the set. The last word is never 0.
+    private final long[] words;
+    private final int size;
+
+    private GroupSet(long[] words) {
+        this.words = words;
+        int bitCount = 0;
+        for (long word : words) {
+            bitCount += Long.bitCount(word);
+        }
+        size = bitCount;
+    }
+
+    /**
+     * Returns the set with no groups.
+     */
+    public static GroupSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of the groups in {@code groups}, which is {@code groups} itself if it is already a
+     * {@code GroupSet}.
+     */
+    public static GroupSet of(Collection<Group> groups) {
+        requireAllNonNull(groups);
+        if (groups instanceof GroupSet) {
+            return (GroupSet) groups;
+        }
+
+        int maxId = -1;
+        for (Group group : groups) {
+            maxId = Math.max(maxId, group.getId());
+        }
+        if (maxId == -1) {
+            return EMPTY;
+        }
+        long[] words = new long[maxId / Long.SIZE + 1];
+        for (Group group : groups) {
+            words[group.getId() / Long.SIZE] |= 1L << group.getId();
+        }
+        return new GroupSet(words);
+    }
+
+    /**
+     * Returns a set of the groups that are in this set or in {@code groups}.
+     */
+    public GroupSet union(Collection<Group> groups) {
+        GroupSet other = of(groups);
+        GroupSet longer = words.length >= other.words.length ? this : other;
+        GroupSet shorter = longer == this ? other : this;
+        long[] union = longer.words.clone();
+        for (int i = 0; i < shorter.words.length; i++) {
+            union[i] |= shorter.words[i];
+        }
+        return Arrays.equals(union, longer.words) ? longer : new GroupSet(union);
+    }
+
+    /**
+     * Returns the number of words of bits in the set. Every word from this one on is 0.
+     */
+    public int getWordCount() {
+        return words.length;
+    }
+
+    /**
+     * Returns word {@code index} of the bits of the set, in which bit {@code id % 64} of word {@code id / 64} is set
+     * if the group with that id is in the set.
+     */
+    public long getWord(int index) {
+        return index < words.length ? words[index] : 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Group)) {
+            return false;
+        }
+        int id = ((Group) o).getId();
+        int wordIndex = id / Long.SIZE;
+        return wordIndex < words.length && (words[wordIndex] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns true if every element of {@code c} is in this set.
+     * If {@code c} is a {@code GroupSet}, only their bits are compared.
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof GroupSet)) {
+            return super.containsAll(c);
+        }
+
+        long[] otherWords = ((GroupSet) c).words;
+        if (otherWords.length > words.length) {
+            return false;
+        }
+        for (int i = 0; i < otherWords.length; i++) {
+            if ((otherWords[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an iterator over the groups in the set, in the order their names were first seen.
+     */
+    @Override
+    public Iterator<Group> iterator() {
+        return new Iterator<>() {
+            private int wordIndex = 0;
+            private long word = words.length == 0 ? 0 : words[0];
+
+            @Override
+            public boolean hasNext() {
+                while (word == 0 && wordIndex < words.length - 1) {
+                    word = words[++wordIndex];
+                }
+                return word != 0;
+            }
+
+            @Override
+            public Group next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int id = wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return GroupDictionary.get(id);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Group> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof GroupSet) {
+            return Arrays.equals(words, ((GroupSet) other).words);
+        }
+        return super.equals(other);
+    }
+
+    /**
+     * Returns the sum of the hash codes of the groups in the set, as {@link java.util.Set#hashCode()} requires.
+     * The hash code of a group is its id, so the groups themselves need not be looked up.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                hashCode += i * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return hashCode;
+    }
+}
@@ -3,6 +3,10 @@ package seedu.teachstack.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.teachstack.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import seedu.teachstack.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -20,6 +24,7 @@ public class Email {
     private static final String LOCAL_PART_REGEX = "[eE]\\d{7}";
     private static final String DOMAIN_REGEX = "u.nus.edu";
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Predicate<String> VALIDATOR = ValidationUtil.matching(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -37,7 +42,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.test(test);
     }
 
     @Override
@@ -3,75 +3,73 @@ package seedu.teachstack.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.teachstack.commons.util.AppUtil.checkArgument;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import seedu.teachstack.storage.JsonSerializableUserData;
 
 /**
  * Represents a Student's grade in the address book.
- * Guarantees: immutable; is valid as declared in {@link #isValidGrade(String)}
+ * Guarantees: immutable; is valid as declared in {@link #isValidGrade(String)}; there is exactly one instance
+ * of each grade, obtained through {@link #of(String)}.
  */
 
 public class Grade implements Comparable<Grade> {
 
-    private static Grade thresholdGrade = new Grade("C+");
     private static final String VALID_GRADES = "[A+, A, A-, B+, B, B-, C+, C, D+, D, F]";
-    private static final String VALIDATION_REGEX = "A[+-]?|B[+-]?|C[+]?|D[+]?|F";
 
-    //some regex here
     public static final String MESSAGE_CONSTRAINTS = "Grades should adhere to the following constraints:\n"
             + "1. The grade should be one of the valid grades:\n"
             + VALID_GRADES;
 
+    /** Grade strings indexed by their int value; index 0 is unused. */
+    private static final String[] GRADE_STRINGS = {"", "F", "D", "D+", "C", "C+", "B-", "B", "B+", "A-", "A", "A+"};
+
+    /** The canonical instance of every valid grade. */
+    private static final Map<String, Grade> GRADES_BY_STRING = new HashMap<>();
+
+    static {
+        for (int i = 1; i < GRADE_STRINGS.length; i++) {
+            GRADES_BY_STRING.put(GRADE_STRINGS[i], new Grade(GRADE_STRINGS[i], i));
+        }
+    }
+
+    private static Grade thresholdGrade = of("C+");
+
     public final String value;
+    private final int intValue;
+
+    private Grade(String value, int intValue) {
+        this.value = value;
+        this.intValue = intValue;
+    }
 
     /**
-     * Constructs an {@code Grade}.
+     * Returns the {@code Grade} for {@code grade}.
+     * The same instance is returned for equal grade strings.
      *
      * @param grade A valid grade.
      */
-    public Grade(String grade) {
+    public static Grade of(String grade) {
         requireNonNull(grade);
-        //TODO: write some tests for isValidGrade
-        checkArgument(isValidGrade(grade), MESSAGE_CONSTRAINTS);
-        value = grade;
+        Grade canonical = GRADES_BY_STRING.get(grade);
+        checkArgument(canonical != null, MESSAGE_CONSTRAINTS);
+        return canonical;
     }
 
     /**
      * Returns if a given string is a valid grade.
      */
     public static boolean isValidGrade(String test) {
-        return test.matches(VALIDATION_REGEX);
+        requireNonNull(test);
+        return GRADES_BY_STRING.containsKey(test);
     }
 
     /**
      * @return the int value corresponding to string grade
      */
     public int gradeToInt() {
-        switch (value) {
-        case ("A+"):
-            return 11;
-        case ("A"):
-            return 10;
-        case ("A-"):
-            return 9;
-        case ("B+"):
-            return 8;
-        case ("B"):
-            return 7;
-        case ("B-"):
-            return 6;
-        case ("C+"):
-            return 5;
-        case ("C"):
-            return 4;
-        case ("D+"):
-            return 3;
-        case ("D"):
-            return 2;
-        case ("F"):
-            return 1;
-        default:
-            return -1;
-        }
+        return intValue;
     }
 
     @Override
@@ -91,17 +89,17 @@ public class Grade implements Comparable<Grade> {
         }
 
         Grade otherGrade = (Grade) other;
-        return value.equals(otherGrade.value);
+        return intValue == otherGrade.intValue;
     }
 
     @Override
     public int compareTo(Grade o) {
-        return this.gradeToInt() - o.gradeToInt();
+        return intValue - o.intValue;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return intValue;
     }
 
     /**
@@ -109,43 +107,17 @@ public class Grade implements Comparable<Grade> {
      * @return the string value corresponding to int grade
      */
     public static String intToGrade(int value) {
-        switch (value) {
-        case 11:
-            return "A+";
-        case 10:
-            return "A";
-        case 9:
-            return "A-";
-        case 8:
-            return "B+";
-        case 7:
-            return "B";
-        case 6:
-            return "B-";
-        case 5:
-            return "C+";
-        case 4:
-            return "C";
-        case 3:
-            return "D+";
-        case 2:
-            return "D";
-        case 1:
-            return "F";
-        default:
+        if (value < 1 || value >= GRADE_STRINGS.length) {
             return "";
         }
+        return GRADE_STRINGS[value];
     }
 
     /**
      * Returns whether grade constitutes weak or not
      */
     public boolean isWeak() {
-        if (this.compareTo(thresholdGrade) <= 0) {
-            return true;
-        } else {
-            return false;
-        }
+        return intValue <= thresholdGrade.intValue;
     }
 
     /**
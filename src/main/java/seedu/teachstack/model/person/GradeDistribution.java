@@ -0,0 +1,123 @@
+package seedu.teachstack.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import seedu.teachstack.commons.util.ToStringBuilder;
+
+/**
+ * Represents the number of students with each grade.
+ * Guarantees: immutable.
+ */
+public class GradeDistribution {
+
+    /** Number of slots needed to index counts by {@link Grade#gradeToInt()}. */
+    public static final int NUMBER_OF_SLOTS = 12;
+
+    private final int[] counts;
+    private final int total;
+
+    /**
+     * Creates a {@code GradeDistribution} from {@code counts}, indexed by {@link Grade#gradeToInt()}.
+     */
+    GradeDistribution(int[] counts) {
+        requireNonNull(counts);
+        assert counts.length == NUMBER_OF_SLOTS;
+        this.counts = counts;
+        this.total = Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Returns the {@code GradeDistribution} of {@code persons}.
+     */
+    public static GradeDistribution of(Collection<Person> persons) {
+        requireNonNull(persons);
+        int[] counts = new int[NUMBER_OF_SLOTS];
+        for (Person person : persons) {
+            counts[person.getGrade().gradeToInt()]++;
+        }
+        return new GradeDistribution(counts);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of students with {@code grade}.
+     */
+    public int getCount(Grade grade) {
+        requireNonNull(grade);
+        return counts[grade.gradeToInt()];
+    }
+
+    /**
+     * Returns the number of students whose grade is {@code threshold} or lower.
+     */
+    public int getCountAtOrBelow(Grade threshold) {
+        requireNonNull(threshold);
+        int count = 0;
+        for (int i = 1; i <= threshold.gradeToInt(); i++) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the mean of the students' grades, as given by {@link Grade#gradeToInt()}, or 0 if there are none.
+     */
+    public double getMean() {
+        if (total == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 1; i < NUMBER_OF_SLOTS; i++) {
+            sum += (long) i * counts[i];
+        }
+        return (double) sum / total;
+    }
+
+    /**
+     * Returns the standard deviation of the students' grades about {@code mean}, or 0 if there are none.
+     */
+    public double getStandardDeviation(double mean) {
+        if (total == 0) {
+            return 0;
+        }
+        double sumOfSquares = 0;
+        for (int i = 1; i < NUMBER_OF_SLOTS; i++) {
+            double diff = i - mean;
+            sumOfSquares += diff * diff * counts[i];
+        }
+        return Math.sqrt(sumOfSquares / total);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradeDistribution)) {
+            return false;
+        }
+
+        GradeDistribution otherDistribution = (GradeDistribution) other;
+        return Arrays.equals(counts, otherDistribution.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("counts", Arrays.toString(counts))
+                .toString();
+    }
+}
@@ -2,17 +2,16 @@ package seedu.teachstack.model.person;
 
 import static seedu.teachstack.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
 import seedu.teachstack.commons.util.ToStringBuilder;
 import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * As a person never changes, its hash code is computed once, when it is created.
  */
 public class Person implements Comparable<Person> {
 
@@ -22,21 +21,37 @@ public class Person implements Comparable<Person> {
     private final Email email;
 
     // Data fields
-    private final Set<Group> groups = new HashSet<>();
+    private final GroupSet groups;
     private final Grade grade;
 
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
      */
-
     public Person(Name name, StudentId studentId, Email email, Grade grade,
                   Set<Group> groups) {
         requireAllNonNull(name, studentId, email, grade, groups);
         this.name = name;
         this.studentId = studentId;
         this.email = email;
-        this.groups.addAll(groups);
+        this.groups = GroupSet.of(groups);
         this.grade = grade;
+        this.hashCode = computeHashCode();
+    }
+
+    /**
+     * Returns the same hash code as {@code Objects.hash(name, studentId, email, grade, groups)}, without the array
+     * it would allocate.
+     */
+    private int computeHashCode() {
+        int result = 1;
+        result = 31 * result + name.hashCode();
+        result = 31 * result + studentId.hashCode();
+        result = 31 * result + email.hashCode();
+        result = 31 * result + grade.hashCode();
+        result = 31 * result + groups.hashCode();
+        return result;
     }
 
     public Name getName() {
@@ -59,8 +74,8 @@ public class Person implements Comparable<Person> {
      * Returns an immutable group set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Group> getGroups() {
-        return Collections.unmodifiableSet(groups);
+    public GroupSet getGroups() {
+        return groups;
     }
 
     /**
@@ -93,7 +108,8 @@ public class Person implements Comparable<Person> {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && studentId.equals(otherPerson.studentId)
                 && email.equals(otherPerson.email)
                 && grade.equals(otherPerson.grade)
@@ -102,10 +118,7 @@ public class Person implements Comparable<Person> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-
-        return Objects.hash(name, studentId, email, grade, groups);
-
+        return hashCode;
     }
 
     @Override
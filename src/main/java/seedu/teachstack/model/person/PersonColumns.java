@@ -0,0 +1,161 @@
+package seedu.teachstack.model.person;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import seedu.teachstack.commons.collections.IntIntHashMap;
+import seedu.teachstack.model.group.GroupSet;
+
+/**
+ * The grades and groups of a set of persons, kept column by column in arrays of primitives, so that counting the
+ * persons with each grade reads a byte and a few words of bits per person, rather than following references from each
+ * person to their grade and groups.
+ * Each person has a row, which holds their grade, the bits of their groups and the person. Rows are in no particular
+ * order: a person is added in a new last row, and the last row is moved into the row of a person that is removed.
+ * Counting over many rows is split between the threads of the common fork-join pool.
+ */
+class PersonColumns {
+
+    // Counting fewer rows than this is done on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+    private static final int CHUNK_SIZE = 1 << 13;
+    private static final int MIN_CAPACITY = 16;
+    private static final int NO_ROW = -1;
+
+    private byte[] grades = new byte[MIN_CAPACITY];
+    // The bits of the groups in row r are words r * wordsPerRow to (r + 1) * wordsPerRow - 1
+    private long[] groupWords = new long[0];
+    private int wordsPerRow;
+    private Person[] persons = new Person[MIN_CAPACITY];
+    private final IntIntHashMap rowsByStudentId = new IntIntHashMap(NO_ROW);
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code person} in a new row. No other person in the columns may have their student ID.
+     */
+    void add(Person person) {
+        assert !rowsByStudentId.containsKey(person.getStudentId().getPackedValue());
+        GroupSet groups = person.getGroups();
+        if (groups.getWordCount() > wordsPerRow) {
+            widen(groups.getWordCount());
+        }
+        if (size == persons.length) {
+            grow(size * 2);
+        }
+
+        int row = size++;
+        grades[row] = (byte) person.getGrade().gradeToInt();
+        for (int i = 0; i < wordsPerRow; i++) {
+            groupWords[row * wordsPerRow + i] = groups.getWord(i);
+        }
+        persons[row] = person;
+        rowsByStudentId.put(person.getStudentId().getPackedValue(), row);
+    }
+
+    /**
+     * Removes the row of {@code person}, which must be in the columns, moving the last row into its place.
+     */
+    void remove(Person person) {
+        int row = rowsByStudentId.remove(person.getStudentId().getPackedValue());
+        assert row != NO_ROW && persons[row] == person;
+
+        int last = --size;
+        if (row != last) {
+            grades[row] = grades[last];
+            System.arraycopy(groupWords, last * wordsPerRow, groupWords, row * wordsPerRow, wordsPerRow);
+            persons[row] = persons[last];
+            rowsByStudentId.put(persons[row].getStudentId().getPackedValue(), row);
+        }
+        persons[last] = null;
+    }
+
+    /**
+     * Removes every row.
+     */
+    void clear() {
+        Arrays.fill(persons, 0, size, null);
+        rowsByStudentId.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of persons in every group of {@code groups} with each grade, indexed by
+     * {@link Grade#gradeToInt()}.
+     */
+    int[] countGrades(GroupSet groups) {
+        if (groups.getWordCount() > wordsPerRow) {
+            // The set has a group that no person was in when they were added
+            return new int[GradeDistribution.NUMBER_OF_SLOTS];
+        }
+
+        // Only the words with bits set need to be checked
+        int[] wordIndexes = IntStream.range(0, wordsPerRow).filter(i -> groups.getWord(i) != 0).toArray();
+        long[] query = Arrays.stream(wordIndexes).mapToLong(groups::getWord).toArray();
+        if (size < PARALLEL_THRESHOLD) {
+            return countGrades(wordIndexes, query, 0, size);
+        }
+
+        int rowCount = size;
+        int chunkCount = (rowCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(chunk -> countGrades(wordIndexes, query, chunk * CHUNK_SIZE,
+                        Math.min(rowCount, (chunk + 1) * CHUNK_SIZE)))
+                .reduce(PersonColumns::addCounts)
+                .get();
+    }
+
+    /**
+     * Returns the number of persons with each grade in rows {@code from} (inclusive) to {@code to} (exclusive) whose
+     * group words at {@code wordIndexes} have every bit set in the corresponding word of {@code query}.
+     */
+    private int[] countGrades(int[] wordIndexes, long[] query, int from, int to) {
+        int[] counts = new int[GradeDistribution.NUMBER_OF_SLOTS];
+        for (int row = from; row < to; row++) {
+            if (isInGroups(row, wordIndexes, query)) {
+                counts[grades[row]]++;
+            }
+        }
+        return counts;
+    }
+
+    private boolean isInGroups(int row, int[] wordIndexes, long[] query) {
+        int base = row * wordsPerRow;
+        for (int i = 0; i < wordIndexes.length; i++) {
+            if ((groupWords[base + wordIndexes[i]] & query[i]) != query[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] addCounts(int[] counts, int[] otherCounts) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += otherCounts[i];
+        }
+        return counts;
+    }
+
+    private void grow(int capacity) {
+        grades = Arrays.copyOf(grades, capacity);
+        groupWords = Arrays.copyOf(groupWords, capacity * wordsPerRow);
+        persons = Arrays.copyOf(persons, capacity);
+    }
+
+    /**
+     * Gives every row {@code newWordsPerRow} words of group bits, for a person in a group with a higher id than any
+     * seen before.
+     */
+    private void widen(int newWordsPerRow) {
+        long[] newGroupWords = new long[persons.length * newWordsPerRow];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(groupWords, row * wordsPerRow, newGroupWords, row * newWordsPerRow, wordsPerRow);
+        }
+        groupWords = newGroupWords;
+        wordsPerRow = newWordsPerRow;
+    }
+}
@@ -5,25 +5,26 @@ import java.util.function.Predicate;
 
 import seedu.teachstack.commons.util.ToStringBuilder;
 import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
 
 /**
- * Tests that a {@code Person}'s {@code Group}s matches any of the groups given.
+ * Tests that a {@code Person}'s {@code Group}s include all of the groups given.
+ * Both are kept as bitsets of group ids, so a test compares a few words.
  */
 public class PersonInGroupPredicate implements Predicate<Person> {
-    private final Set<Group> groups;
+    private final GroupSet groups;
 
     public PersonInGroupPredicate(Set<Group> groups) {
-        this.groups = groups;
+        this.groups = GroupSet.of(groups);
     }
 
-    public Set<Group> getGroups() {
+    public GroupSet getGroups() {
         return groups;
     }
 
     @Override
     public boolean test(Person person) {
-        return groups.stream()
-                .allMatch(group -> person.getGroups().contains(group));
+        return person.getGroups().containsAll(groups);
     }
 
     @Override
@@ -0,0 +1,100 @@
+package seedu.teachstack.model.person;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+
+/**
+ * A list of unique persons kept sorted by grade, in which an {@link seedu.teachstack.model.ArchivedBook} keeps its
+ * persons. The persons may be kept in memory, as in a {@link UniquePersonList}, or in a data file from which each
+ * person is only read when it is needed.
+ *
+ * @see UniquePersonList
+ */
+public interface PersonStore {
+
+    /**
+     * Returns true if the store contains a person with the same email or id as the given argument.
+     */
+    boolean contains(Person toCheck);
+
+    /**
+     * Returns true if the store contains a person with the same email as the given argument.
+     */
+    boolean containsByEmail(Person toCheck);
+
+    /**
+     * Returns true if the store contains a person with the same id as the given argument.
+     */
+    boolean containsById(Person toCheck);
+
+    /**
+     * Returns the person with the given {@code studentId}, or null if there is no such person in the store.
+     */
+    Person get(StudentId studentId);
+
+    /**
+     * Adds a person to the store, keeping the store sorted.
+     */
+    void addToArchive(Person toAdd);
+
+    /**
+     * Replaces the person {@code target} in the store with {@code editedPerson}.
+     * {@code target} must exist in the store.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the store.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Replaces the person {@code target} in a sorted store with {@code editedPerson}, keeping the store sorted.
+     * {@code target} must exist in the store.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the store.
+     */
+    void setPersonSorted(Person target, Person editedPerson);
+
+    /**
+     * Removes the equivalent person from the store.
+     * The person must exist in the store.
+     */
+    void remove(Person toRemove);
+
+    /**
+     * Replaces the contents of this store with {@code persons}.
+     * {@code persons} must not contain duplicate persons.
+     */
+    void setPersons(List<Person> persons);
+
+    /**
+     * Sorts the persons in the store by grade, keeping the order of persons with the same grade.
+     */
+    void sort();
+
+    /**
+     * Begins a batch of changes, which listeners of {@link #asUnmodifiableObservableList()} do not see until
+     * {@link #commitBatch()}. The other methods of the store see each change as it is made.
+     * The list listeners see is not changed while the batch is in progress, so it may be read from another thread.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch, firing the changes made in it as a single change.
+     */
+    void commitBatch();
+
+    /**
+     * Returns the number of times this store has been modified.
+     * The count changes whenever the contents or order of the store may have changed.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the persons in the store as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Person> asUnmodifiableObservableList();
+
+    /**
+     * Returns true if changes to this store are written to its data file as they are made, so that it never needs
+     * to be saved.
+     */
+    boolean isWriteThrough();
+}
@@ -3,19 +3,30 @@ package seedu.teachstack.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.teachstack.commons.util.AppUtil.checkArgument;
 
+import seedu.teachstack.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's studentId in the address book.
+ * The studentId is kept packed into one int, as its number followed by its final letter, so comparing and hashing
+ * studentIds are int operations. Its string form is only built when it is asked for.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
  */
-public class StudentId {
+public class StudentId implements Comparable<StudentId> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "StudentId should start with A follow by 7 digits and ends with a letter, and it should not be blank.";
 
     // The studentId must start with A followed by digits and end with a letter.
     public static final String VALIDATION_REGEX = "A\\d{7}[A-Z]";
+    private static final char PREFIX = 'A';
+    private static final int DIGIT_COUNT = 7;
+    private static final int LETTER_COUNT = 26;
+    private static final int MAX_NUMBER = 9999999;
+
+    private final int packedValue;
 
-    public final String id;
+    // Built from packedValue the first time it is needed. Racing threads can only build equal strings.
+    private String id;
 
     /**
      * Constructs a {@code StudentId}.
@@ -25,19 +36,66 @@ public class StudentId {
     public StudentId(String studentId) {
         requireNonNull(studentId);
         checkArgument(isValidStudentId(studentId), MESSAGE_CONSTRAINTS);
-        id = studentId;
+        int number = 0;
+        for (int i = 1; i <= DIGIT_COUNT; i++) {
+            number = number * 10 + (studentId.charAt(i) - '0');
+        }
+        packedValue = number * LETTER_COUNT + (studentId.charAt(DIGIT_COUNT + 1) - 'A');
+    }
+
+    private StudentId(int packedValue) {
+        this.packedValue = packedValue;
+    }
+
+    /**
+     * Returns the studentId packed into {@code packedValue} by {@link #getPackedValue()}.
+     *
+     * @throws IllegalArgumentException if {@code packedValue} could not have been packed from a valid studentId.
+     */
+    public static StudentId fromPackedValue(int packedValue) {
+        checkArgument(isValidPackedValue(packedValue), MESSAGE_CONSTRAINTS);
+        return new StudentId(packedValue);
     }
 
     /**
      * Returns true if a given string is a valid studentId.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Equivalent to VALIDATION_REGEX, checked character by character
+        return ValidationUtil.isPrefixedDigitsAndLetter(test, PREFIX, DIGIT_COUNT);
+    }
+
+    /**
+     * Returns true if {@code test} could have been packed from a valid studentId.
+     */
+    public static boolean isValidPackedValue(int test) {
+        return test >= 0 && test / LETTER_COUNT <= MAX_NUMBER;
+    }
+
+    /**
+     * Returns the studentId packed into one int, as its number followed by its final letter.
+     * Packed values are ordered and equal exactly as the studentIds they were packed from.
+     */
+    public int getPackedValue() {
+        return packedValue;
     }
 
     @Override
     public String toString() {
-        return id;
+        String result = id;
+        if (result == null) {
+            char[] chars = new char[DIGIT_COUNT + 2];
+            chars[0] = PREFIX;
+            int number = packedValue / LETTER_COUNT;
+            for (int i = DIGIT_COUNT; i >= 1; i--) {
+                chars[i] = (char) ('0' + number % 10);
+                number /= 10;
+            }
+            chars[DIGIT_COUNT + 1] = (char) ('A' + packedValue % LETTER_COUNT);
+            result = new String(chars);
+            id = result;
+        }
+        return result;
     }
 
     @Override
@@ -52,11 +110,16 @@ public class StudentId {
         }
 
         StudentId otherName = (StudentId) other;
-        return id.equals(otherName.id);
+        return packedValue == otherName.packedValue;
     }
 
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return packedValue;
+    }
+
+    @Override
+    public int compareTo(StudentId other) {
+        return Integer.compare(packedValue, other.packedValue);
     }
 }
@@ -3,13 +3,23 @@ package seedu.teachstack.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.teachstack.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.teachstack.commons.collections.IntHashSet;
+import seedu.teachstack.commons.collections.IntObjectHashMap;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
 import seedu.teachstack.model.person.exceptions.DuplicatePersonException;
 import seedu.teachstack.model.person.exceptions.PersonNotFoundException;
 
@@ -22,40 +32,94 @@ import seedu.teachstack.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks and lookups by {@code StudentId} or {@code Email} are answered from hash indexes that are kept in
+ * sync with the backing list, so they run in constant time regardless of the size of the list. The index by
+ * {@code StudentId} is keyed by its packed int value, so it holds no entry objects or boxed keys. The number of
+ * persons with each grade is counted as persons are added and removed. The indexes are updated before the list fires
+ * its change, so listeners of the list see lookups that agree with its new contents.
+ * The grades and groups of the persons are also mirrored in {@link PersonColumns}, from which the grades of the
+ * persons in some groups are counted without looking at the persons themselves.
+ *
+ * Changes can be grouped into a batch with {@link #beginBatch()}. Until the batch is committed, listeners of the list
+ * keep seeing the persons as they were before it, and the changes are then fired as a single change. A batch can
+ * instead be rolled back, which puts the list back as it was before the batch.
+ * The first change in a batch is made to a copy of the list, and the list its listeners see is not changed again
+ * until the batch ends, so it can be read from another thread while the batch is being made.
+ *
  * @see Person#isSamePerson(Person)
  */
-public class UniquePersonList implements Iterable<Person> {
+public class UniquePersonList implements Iterable<Person>, PersonStore {
+
+    public static final String MESSAGE_DUPLICATE_RECORD =
+            "Record %1$d reuses the student id or email of an earlier record: %2$s, %3$s";
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private List<Person> internalList = new ArrayList<>();
 
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PersonListView internalUnmodifiableList = new PersonListView();
+
+    private final IntObjectHashMap<Person> idIndex = new IntObjectHashMap<>();
+    private final Map<Email, Person> emailIndex = new HashMap<>();
+    private final int[] gradeCounts = new int[GradeDistribution.NUMBER_OF_SLOTS];
+    private final PersonColumns columns = new PersonColumns();
+    private long modificationCount;
+
+    private boolean isInBatch;
+    // The persons as listeners see them, which is the internal list itself unless it has been changed in a batch
+    private List<Person> publishedList = internalList;
+    private long batchModificationCount;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
+    @Override
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmail)
-                || internalList.stream().anyMatch(toCheck::isSameId);
+        return containsByEmail(toCheck) || containsById(toCheck);
     }
 
     /**
      * Checks if the list contains a person with the same email as the given argument.
      * Returns true if found, false otherwise.
      */
+    @Override
     public boolean containsByEmail(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(person -> person.isSameEmail(toCheck));
+        return emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
      * Checks if the list contains a person with the same id as the given argument.
      * Returns true if found, false otherwise.
      */
+    @Override
     public boolean containsById(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(person -> person.isSameId(toCheck));
+        return idIndex.containsKey(toCheck.getStudentId().getPackedValue());
+    }
+
+    /**
+     * Returns the person with the given {@code studentId}, or null if there is no such person in the list.
+     */
+    @Override
+    public Person get(StudentId studentId) {
+        requireNonNull(studentId);
+        return idIndex.get(studentId.getPackedValue());
+    }
+
+    /**
+     * Returns the number of persons in the list with each grade.
+     */
+    public GradeDistribution getGradeDistribution() {
+        return new GradeDistribution(gradeCounts.clone());
+    }
+
+    /**
+     * Returns the number of persons in the list with each grade who are members of every group in {@code groups}.
+     * This is counted from the columns of grades and groups, without looking at the persons themselves.
+     */
+    public GradeDistribution getGradeDistribution(Set<Group> groups) {
+        requireAllNonNull(groups);
+        return new GradeDistribution(columns.countGrades(GroupSet.of(groups)));
     }
 
     /**
@@ -68,15 +132,51 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        holdBackChanges();
+        index(toAdd);
         internalList.add(toAdd);
+        internalUnmodifiableList.fireReplaced(internalList.size() - 1, internalList.size(), Collections.emptyList());
+        modificationCount++;
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list, firing a single change.
+     * {@code persons} must not contain duplicate persons, or persons that already exist in the list.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!personsAreUnique(persons) || persons.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+
+        holdBackChanges();
+        persons.forEach(this::index);
+        int from = internalList.size();
+        internalList.addAll(persons);
+        internalUnmodifiableList.fireReplaced(from, internalList.size(), Collections.emptyList());
+        modificationCount++;
+    }
+
+    /**
+     * Adds a person to a list that is sorted, at the position {@link #sort()} would place it.
+     * The person must not already exist in the list.
+     */
+    public void addSorted(Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+
+        insertSorted(toAdd);
     }
 
     /**
-     * Adds a person to the archive list.
+     * Adds a person to the archive list, keeping the list sorted.
      */
+    @Override
     public void addToArchive(Person toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
+        insertSorted(toAdd);
     }
 
     /**
@@ -84,6 +184,7 @@ public class UniquePersonList implements Iterable<Person> {
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
+    @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
@@ -97,48 +198,257 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        holdBackChanges();
+        // Unindexed first, as editedPerson can be equal to the person it replaces
+        Person replaced = internalList.set(index, editedPerson);
+        unindex(replaced);
+        index(editedPerson);
+        internalUnmodifiableList.fireReplaced(index, index + 1, Collections.singletonList(replaced));
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the person {@code target} in a sorted list with {@code editedPerson}, and moves
+     * {@code editedPerson} to the position {@link #sort()} would place it.
+     * {@code target} must exist in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    @Override
+    public void setPersonSorted(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        int index = indexOfSorted(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        if ((!target.isSameEmail(editedPerson) && containsByEmail(editedPerson))
+                || !target.isSameId(editedPerson) && containsById(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        boolean isInOrderWithPrevious = index == 0 || internalList.get(index - 1).compareTo(editedPerson) <= 0;
+        boolean isInOrderWithNext = index == internalList.size() - 1
+                || editedPerson.compareTo(internalList.get(index + 1)) <= 0;
+        holdBackChanges();
+        // Unindexed first, as editedPerson can be equal to the person it replaces
+        Person replaced = internalList.get(index);
+        unindex(replaced);
+        index(editedPerson);
+        if (isInOrderWithPrevious && isInOrderWithNext) {
+            internalList.set(index, editedPerson);
+            internalUnmodifiableList.fireReplaced(index, index + 1, Collections.singletonList(replaced));
+        } else {
+            // A stable sort keeps the edited person's original position relative to others with the same grade
+            internalList.remove(index);
+            int newIndex = Math.min(Math.max(index, lowerBound(editedPerson)), upperBound(editedPerson));
+            internalList.add(newIndex, editedPerson);
+            internalUnmodifiableList.fireMoved(index, replaced, newIndex);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the groups of each person whose {@code StudentId} is a key of {@code groupChanges} with the groups it
+     * maps to, firing a single change.
+     * Every student ID must belong to a person in the list, and the list is left unchanged if one does not.
+     * Groups do not affect the order of persons, so each person keeps their position.
+     */
+    public void setGroups(Map<StudentId, Set<Group>> groupChanges) {
+        requireNonNull(groupChanges);
+        // Keyed by student ID, which stays the same for each replacement and the person it replaces
+        IntObjectHashMap<Person> replacements = new IntObjectHashMap<>(groupChanges.size());
+        for (Map.Entry<StudentId, Set<Group>> groupChange : groupChanges.entrySet()) {
+            requireAllNonNull(groupChange.getKey(), groupChange.getValue());
+            Person target = idIndex.get(groupChange.getKey().getPackedValue());
+            if (target == null) {
+                throw new PersonNotFoundException();
+            }
+            replacements.put(target.getStudentId().getPackedValue(), new Person(target.getName(),
+                    target.getStudentId(), target.getEmail(), target.getGrade(), groupChange.getValue()));
+        }
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        holdBackChanges();
+        List<Integer> replacedIndexes = new ArrayList<>(replacements.size());
+        List<Person> replaced = new ArrayList<>(replacements.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            Person replacement = replacements.get(internalList.get(i).getStudentId().getPackedValue());
+            if (replacement != null) {
+                replaced.add(internalList.set(i, replacement));
+                replacedIndexes.add(i);
+            }
+        }
+        // Unindexed first, as a replacement can be equal to the person it replaces
+        replaced.forEach(this::unindex);
+        replacements.forEachValue(this::index);
+        internalUnmodifiableList.fireSet(replacedIndexes, replaced);
+        modificationCount++;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
+    @Override
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        holdBackChanges();
+        Person removed = internalList.get(index);
+        unindex(removed);
+        internalList.remove(index);
+        internalUnmodifiableList.fireReplaced(index, index, Collections.singletonList(removed));
+        modificationCount++;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
      */
+    @Override
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceAll(persons);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are not checked for duplicates.
+     */
+    private void replaceAll(List<Person> persons) {
+        List<Person> newPersons = new ArrayList<>(persons);
+        holdBackChanges();
+        List<Person> removed = new ArrayList<>(internalList);
+        reindex(newPersons);
+        internalList.clear();
+        internalList.addAll(newPersons);
+        internalUnmodifiableList.fireReplaced(0, internalList.size(), removed);
+        modificationCount++;
+    }
+
+    /**
+     * Adds {@code toAdd} at the position {@link #sort()} would place it.
+     */
+    private void insertSorted(Person toAdd) {
+        holdBackChanges();
+        index(toAdd);
+        int index = upperBound(toAdd);
+        internalList.add(index, toAdd);
+        internalUnmodifiableList.fireReplaced(index, index + 1, Collections.emptyList());
+        modificationCount++;
+    }
+
+    /**
+     * Begins a batch of changes, which listeners of {@link #asUnmodifiableObservableList()} do not see until
+     * {@link #commitBatch()}. Lookups and the other methods of this list see each change as it is made.
+     */
+    @Override
+    public void beginBatch() {
+        assert !isInBatch;
+        isInBatch = true;
+        batchModificationCount = modificationCount;
+    }
+
+    /**
+     * Ends the current batch, firing the changes made in it as a single change that replaces only the persons from the
+     * first to the last one that changed.
+     */
+    @Override
+    public void commitBatch() {
+        assert isInBatch;
+        isInBatch = false;
+        if (publishedList == internalList) {
+            return;
+        }
+
+        List<Person> oldList = publishedList;
+        publishedList = internalList;
+        int from = 0;
+        while (from < oldList.size() && from < internalList.size() && oldList.get(from) == internalList.get(from)) {
+            from++;
+        }
+        int oldTo = oldList.size();
+        int newTo = internalList.size();
+        while (oldTo > from && newTo > from && oldList.get(oldTo - 1) == internalList.get(newTo - 1)) {
+            oldTo--;
+            newTo--;
+        }
+        internalUnmodifiableList.fireReplaced(from, newTo, new ArrayList<>(oldList.subList(from, oldTo)));
+    }
+
+    /**
+     * Ends the current batch, undoing the changes made in it. Listeners of {@link #asUnmodifiableObservableList()}
+     * are not notified, as they never saw the changes.
+     */
+    public void rollbackBatch() {
+        assert isInBatch;
+        isInBatch = false;
+        if (publishedList == internalList) {
+            return;
+        }
+
+        internalList = publishedList;
+        reindex(internalList);
+        modificationCount = batchModificationCount;
+    }
+
+    /**
+     * Moves the changes to a copy of the list before the first change in a batch, so that the list listeners see is
+     * left as it is.
+     */
+    private void holdBackChanges() {
+        if (isInBatch && publishedList == internalList) {
+            internalList = new ArrayList<>(internalList);
+        }
+    }
+
+    /**
+     * Returns the number of times this list has been modified.
+     * The count changes whenever the contents or order of the list may have changed.
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
+    @Override
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
+    @Override
+    public boolean isWriteThrough() {
+        return false;
+    }
+
+    /**
+     * Returns the persons from position {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) of the list,
+     * including changes made in a batch that has not been committed.
+     */
+    public List<Person> getPersons(int fromIndex, int toIndex) {
+        return new ArrayList<>(internalList.subList(fromIndex, toIndex));
+    }
+
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
     }
 
     @Override
@@ -166,34 +476,230 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Adds {@code person} to the identity and grade indexes, and to the columns.
+     */
+    private void index(Person person) {
+        idIndex.put(person.getStudentId().getPackedValue(), person);
+        columns.add(person);
+        emailIndex.put(person.getEmail(), person);
+        gradeCounts[person.getGrade().gradeToInt()]++;
+    }
+
+    /**
+     * Removes {@code person} from the identity and grade indexes, leaving entries that belong to other
+     * persons untouched, and from the columns.
+     */
+    private void unindex(Person person) {
+        idIndex.remove(person.getStudentId().getPackedValue(), person);
+        columns.remove(person);
+        emailIndex.remove(person.getEmail(), person);
+        gradeCounts[person.getGrade().gradeToInt()]--;
+    }
+
+    /**
+     * Rebuilds the identity and grade indexes and the columns from {@code persons}.
+     */
+    private void reindex(List<Person> persons) {
+        idIndex.clear();
+        columns.clear();
+        emailIndex.clear();
+        Arrays.fill(gradeCounts, 0);
+        persons.forEach(this::index);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        return getDuplicateIndexes(persons).isEmpty();
+    }
+
+    /**
+     * Returns the positions in {@code persons} of every person whose {@code StudentId} or {@code Email} is already
+     * used by an earlier person in {@code persons}, in ascending order.
+     */
+    public static List<Integer> getDuplicateIndexes(List<Person> persons) {
+        requireAllNonNull(persons);
+        IntHashSet seenIds = new IntHashSet(persons.size());
+        Set<Email> seenEmails = new HashSet<>();
+        List<Integer> duplicateIndexes = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            boolean isNewId = seenIds.add(person.getStudentId().getPackedValue());
+            boolean isNewEmail = seenEmails.add(person.getEmail());
+            if (!isNewId || !isNewEmail) {
+                duplicateIndexes.add(i);
             }
         }
-        return true;
+        return duplicateIndexes;
     }
 
     /**
-     * Sort the Observable list.
+     * Returns {@code header} followed by a line for every person at {@code duplicateIndexes} in {@code persons}, with
+     * its position among them.
      */
-    public void sort() {
-        List<Person> list = internalList.stream().collect(Collectors.toList());
+    public static String getDuplicatePersonsMessage(String header, List<Person> persons,
+            List<Integer> duplicateIndexes) {
+        requireAllNonNull(header, persons, duplicateIndexes);
+        StringBuilder message = new StringBuilder(header);
+        for (int index : duplicateIndexes) {
+            Person duplicate = persons.get(index);
+            message.append('\n').append(String.format(MESSAGE_DUPLICATE_RECORD,
+                    index + 1, duplicate.getStudentId(), duplicate.getEmail()));
+        }
+        return message.toString();
+    }
 
-        Collections.sort(list);
+    /**
+     * Returns the index of {@code person} in a sorted list, or -1 if it is not in the list.
+     * Only persons with the same grade as {@code person} are compared.
+     */
+    private int indexOfSorted(Person person) {
+        for (int i = lowerBound(person); i < internalList.size() && internalList.get(i).compareTo(person) == 0; i++) {
+            if (internalList.get(i).equals(person)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first person in a sorted list that is not ordered before {@code person}.
+     */
+    private int lowerBound(Person person) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(person) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first person in a sorted list that is ordered after {@code person}.
+     */
+    private int upperBound(Person person) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the list in place with a stable sort, firing a single permutation change.
+     */
+    @Override
+    public void sort() {
+        boolean isSorted = true;
+        for (int i = 1; i < internalList.size() && isSorted; i++) {
+            isSorted = internalList.get(i - 1).compareTo(internalList.get(i)) <= 0;
+        }
+        if (isSorted) {
+            return;
+        }
 
+        modificationCount++;
+        holdBackChanges();
+        // Sorting the positions rather than the persons gives the permutation to fire
+        Integer[] order = new Integer[internalList.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(internalList::get));
+        List<Person> sorted = new ArrayList<>(order.length);
+        int[] permutation = new int[order.length];
+        for (int newIndex = 0; newIndex < order.length; newIndex++) {
+            sorted.add(internalList.get(order[newIndex]));
+            permutation[order[newIndex]] = newIndex;
+        }
         internalList.clear();
-        internalList.addAll(list);
+        internalList.addAll(sorted);
+        internalUnmodifiableList.firePermuted(permutation);
     }
 
     public ObservableList<Person> getStudents() {
-        ObservableList<Person> o = internalList;
-        return o;
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * The persons in the list as its listeners see them, which is as they were before the current batch while one is
+     * in progress.
+     */
+    private class PersonListView extends ObservableListBase<Person> {
+
+        @Override
+        public Person get(int index) {
+            return publishedList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return publishedList.size();
+        }
+
+        /**
+         * Fires the replacement of {@code removed} by the persons from {@code from} to {@code to}, unless a batch is
+         * in progress. Either of them may be empty.
+         */
+        private void fireReplaced(int from, int to, List<Person> removed) {
+            if (isInBatch || (from == to && removed.isEmpty())) {
+                return;
+            }
+            beginChange();
+            if (removed.isEmpty()) {
+                nextAdd(from, to);
+            } else if (from == to) {
+                nextRemove(from, removed);
+            } else {
+                nextReplace(from, to, removed);
+            }
+            endChange();
+        }
+
+        private void fireMoved(int index, Person removed, int newIndex) {
+            if (isInBatch) {
+                return;
+            }
+            beginChange();
+            nextRemove(index, removed);
+            nextAdd(newIndex, newIndex + 1);
+            endChange();
+        }
+
+        /**
+         * Fires the replacement of {@code replaced} by the persons at {@code indexes}, which are in ascending order.
+         */
+        private void fireSet(List<Integer> indexes, List<Person> replaced) {
+            if (isInBatch || indexes.isEmpty()) {
+                return;
+            }
+            beginChange();
+            for (int i = 0; i < indexes.size(); i++) {
+                nextSet(indexes.get(i), replaced.get(i));
+            }
+            endChange();
+        }
+
+        private void firePermuted(int[] permutation) {
+            if (isInBatch) {
+                return;
+            }
+            beginChange();
+            nextPermutation(0, permutation.length, permutation);
+            endChange();
+        }
     }
 }
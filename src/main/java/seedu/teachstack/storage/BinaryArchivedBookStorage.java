@@ -0,0 +1,86 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.commons.exceptions.IllegalValueException;
+import seedu.teachstack.model.ReadOnlyArchivedBook;
+import seedu.teachstack.model.person.Person;
+
+/**
+ * A class to access ArchivedBook data stored as a binary file on the hard disk.
+ *
+ * @see BinaryPersonFile
+ */
+public class BinaryArchivedBookStorage implements ArchivedBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryArchivedBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryArchivedBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the JSON file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        return BinaryPersonFile.getBinaryFilePath(jsonFilePath);
+    }
+
+    public Path getArchivedBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedBook() throws DataLoadingException {
+        return readArchivedBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readArchivedBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyArchivedBook> readArchivedBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<List<Person>> persons = BinaryPersonFile.read(filePath);
+            if (!persons.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableArchivedBook.toArchivedBook(persons.get()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveArchivedBook(ReadOnlyArchivedBook archivedBook) throws IOException {
+        saveArchivedBook(archivedBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveArchivedBook(ReadOnlyArchivedBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveArchivedBook(ReadOnlyArchivedBook archivedBook, Path filePath) throws IOException {
+        requireNonNull(archivedBook);
+        requireNonNull(filePath);
+
+        BinaryPersonFile.save(archivedBook.getArchivedList(), filePath);
+    }
+
+}
@@ -0,0 +1,296 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.commons.exceptions.IllegalValueException;
+import seedu.teachstack.commons.util.FileUtil;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
+import seedu.teachstack.model.person.Email;
+import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.Name;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.StudentId;
+
+/**
+ * Reads and writes a list of persons in a compact binary format, which loads much faster than JSON.
+ *
+ * The file holds, in order:
+ * <ul>
+ *     <li>the bytes of {@link #MAGIC} and the format version</li>
+ *     <li>a table of strings shared between persons: group names and the domains of emails</li>
+ *     <li>the number of persons, followed by each person as a record prefixed by its length in bytes</li>
+ * </ul>
+ * Within a record, the name and the part of the email before the domain are stored as strings, the student id as
+ * one int, the grade as one byte, and the email domain and groups as indexes into the string table.
+ * Counts and indexes are stored in as few bytes as their value needs.
+ */
+class BinaryPersonFile {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a TeachStack binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version: %d";
+    public static final String MESSAGE_INVALID_RECORD = "Record %1$d is invalid: %2$s";
+
+    static final byte[] MAGIC = {'T', 'S', 'B', 'K'};
+    static final int VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryPersonFile.class);
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final int MAX_RECORD_LENGTH = 1024 * 1024;
+
+    private BinaryPersonFile() {}
+
+    /**
+     * Returns the path of the binary file kept in place of the JSON file at {@code jsonFilePath}.
+     */
+    static Path getBinaryFilePath(Path jsonFilePath) {
+        return getFilePathWithExtension(jsonFilePath, BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the file with the given {@code extension} kept in place of the JSON file at
+     * {@code jsonFilePath}. The {@code .json} extension is replaced if there is one, and appended to otherwise.
+     */
+    static Path getFilePathWithExtension(Path jsonFilePath, String extension) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + extension);
+    }
+
+    /**
+     * Returns the persons in the binary file at {@code filePath}, in the order they were saved,
+     * or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read or is not a valid binary data file.
+     * @throws IllegalValueException if there were any data constraints violated in a record.
+     */
+    static Optional<List<Person>> read(Path filePath) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readPersons(new DataInputStream(in)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static List<Person> readPersons(DataInputStream in) throws IOException, IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = readVarInt(in);
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readVarInt(in)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+        Group[] groups = new Group[strings.length];
+
+        int personCount = readVarInt(in);
+        List<Person> persons = new ArrayList<>(personCount);
+        byte[] record = new byte[0];
+        for (int i = 0; i < personCount; i++) {
+            int recordLength = readVarInt(in);
+            if (recordLength > MAX_RECORD_LENGTH) {
+                throw new IOException("Record " + (i + 1) + " is too long: " + recordLength + " bytes");
+            }
+            if (record.length < recordLength) {
+                record = new byte[recordLength];
+            }
+            in.readFully(record, 0, recordLength);
+            DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record, 0, recordLength));
+            try {
+                persons.add(readPerson(recordIn, strings, groups));
+            } catch (IllegalValueException | IOException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, i + 1, e.getMessage()));
+            }
+        }
+        return persons;
+    }
+
+    private static Person readPerson(DataInput in, String[] strings, Group[] groups)
+            throws IOException, IllegalValueException {
+        String name = in.readUTF();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        int studentId = in.readInt();
+        if (!StudentId.isValidPackedValue(studentId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+
+        String emailLocalPart = in.readUTF();
+        String email = emailLocalPart + "@" + getString(strings, readVarInt(in));
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+
+        String grade = Grade.intToGrade(in.readByte());
+        if (!Grade.isValidGrade(grade)) {
+            throw new IllegalValueException(Grade.MESSAGE_CONSTRAINTS);
+        }
+
+        int groupCount = readVarInt(in);
+        List<Group> personGroups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            personGroups.add(getGroup(strings, groups, readVarInt(in)));
+        }
+
+        return new Person(new Name(name), StudentId.fromPackedValue(studentId), new Email(email), Grade.of(grade),
+                GroupSet.of(personGroups));
+    }
+
+    private static String getString(String[] strings, int index) throws IOException {
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("String index out of range: " + index);
+        }
+        return strings[index];
+    }
+
+    /**
+     * Returns the group named by the string at {@code index}, sharing one {@code Group} between all persons in it.
+     */
+    private static Group getGroup(String[] strings, Group[] groups, int index)
+            throws IOException, IllegalValueException {
+        String groupName = getString(strings, index);
+        if (groups[index] == null) {
+            if (!Group.isValidGroupName(groupName)) {
+                throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
+            }
+            groups[index] = Group.of(groupName);
+        }
+        return groups[index];
+    }
+
+    /**
+     * Saves {@code persons} to the binary file at {@code filePath}.
+     * Overwrites the file if it exists, creates a new file if it doesn't.
+     */
+    static void save(List<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Person person : persons) {
+            addString(getEmailDomain(person.getEmail()), stringIndexes, strings);
+            for (Group group : person.getGroups()) {
+                addString(group.groupName, stringIndexes, strings);
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, fileOut -> {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut));
+            out.write(MAGIC);
+            writeVarInt(out, VERSION);
+
+            writeVarInt(out, strings.size());
+            for (String string : strings) {
+                out.writeUTF(string);
+            }
+
+            writeVarInt(out, persons.size());
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (Person person : persons) {
+                record.reset();
+                writePerson(recordOut, person, stringIndexes);
+                writeVarInt(out, record.size());
+                record.writeTo(out);
+            }
+            out.flush();
+        });
+    }
+
+    private static void writePerson(DataOutput out, Person person, Map<String, Integer> stringIndexes)
+            throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeInt(person.getStudentId().getPackedValue());
+        String email = person.getEmail().value;
+        out.writeUTF(email.substring(0, email.lastIndexOf('@')));
+        writeVarInt(out, stringIndexes.get(getEmailDomain(person.getEmail())));
+        out.writeByte(person.getGrade().gradeToInt());
+        writeVarInt(out, person.getGroups().size());
+        for (Group group : person.getGroups()) {
+            writeVarInt(out, stringIndexes.get(group.groupName));
+        }
+    }
+
+    private static void addString(String string, Map<String, Integer> stringIndexes, List<String> strings) {
+        if (!stringIndexes.containsKey(string)) {
+            stringIndexes.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private static String getEmailDomain(Email email) {
+        return email.value.substring(email.value.lastIndexOf('@') + 1);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in 7-bit groups, lowest first, setting the top bit of every byte but the
+     * last.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative length or index");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed length or index");
+    }
+
+}
@@ -0,0 +1,115 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.commons.util.FileUtil;
+import seedu.teachstack.commons.util.StringUtil;
+import seedu.teachstack.model.ReadOnlyAddressBook;
+import seedu.teachstack.model.ReadOnlyArchivedBook;
+
+/**
+ * Copies a book from the data file of one storage to the data file of another, such as when the data file format is
+ * changed, so that the data in the newly used file is never older than the data in the file used before.
+ * The file copied from is left in place.
+ */
+public class DataFileMigration {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileMigration.class);
+
+    private DataFileMigration() {}
+
+    /**
+     * Copies the address book in {@code source} to {@code target} if {@code source}'s file was modified more recently
+     * than {@code target}'s, or only {@code source}'s file exists.
+     *
+     * @return true if the address book was copied.
+     */
+    public static boolean migrateIfOutdated(AddressBookStorage source, AddressBookStorage target) {
+        requireNonNull(source);
+        requireNonNull(target);
+        if (!isOutdated(target.getAddressBookFilePath(), source.getAddressBookFilePath())) {
+            return false;
+        }
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+            if (!addressBook.isPresent()) {
+                return false;
+            }
+            target.saveAddressBook(addressBook.get());
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to copy " + source.getAddressBookFilePath() + " to "
+                    + target.getAddressBookFilePath() + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+        logger.info("Copied " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Copies the archived book in {@code source} to {@code target} if {@code source}'s file was modified more
+     * recently than {@code target}'s, or only {@code source}'s file exists.
+     *
+     * @return true if the archived book was copied.
+     */
+    public static boolean migrateIfOutdated(ArchivedBookStorage source, ArchivedBookStorage target) {
+        requireNonNull(source);
+        requireNonNull(target);
+        if (!isOutdated(target.getArchivedBookFilePath(), source.getArchivedBookFilePath())) {
+            return false;
+        }
+
+        try {
+            Optional<ReadOnlyArchivedBook> archivedBook = source.readArchivedBook();
+            if (!archivedBook.isPresent()) {
+                return false;
+            }
+            target.saveArchivedBook(archivedBook.get());
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to copy " + source.getArchivedBookFilePath() + " to "
+                    + target.getArchivedBookFilePath() + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+        logger.info("Copied " + source.getArchivedBookFilePath() + " to " + target.getArchivedBookFilePath());
+        return true;
+    }
+
+    /**
+     * Returns true if the file at {@code sourcePath} exists and holds newer data than the file at {@code targetPath}.
+     */
+    static boolean isOutdated(Path targetPath, Path sourcePath) {
+        if (!FileUtil.isFileExists(sourcePath)) {
+            return false;
+        }
+        if (!FileUtil.isFileExists(targetPath)) {
+            return true;
+        }
+        try {
+            return getLastModifiedMillis(sourcePath) > getLastModifiedMillis(targetPath);
+        } catch (IOException e) {
+            logger.warning("Failed to compare " + sourcePath + " with " + targetPath + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Returns when the data in the file at {@code filePath}, including any journal kept for it, was last modified.
+     */
+    private static long getLastModifiedMillis(Path filePath) throws IOException {
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+        Path journalPath = PersonJournal.getJournalPath(filePath);
+        if (FileUtil.isFileExists(journalPath)) {
+            lastModified = Math.max(lastModified, Files.getLastModifiedTime(journalPath).toMillis());
+        }
+        return lastModified;
+    }
+
+}
@@ -0,0 +1,84 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.model.AddressBook;
+import seedu.teachstack.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a snapshot in another {@code AddressBookStorage}, together with a
+ * journal of the changes made since the snapshot was written.
+ * Only the file at {@link #getAddressBookFilePath()} is journaled; other files are read and saved as snapshots.
+ *
+ * @see PersonJournal
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private final AddressBookStorage snapshotStorage;
+    private final PersonJournal journal;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, new PersonJournal(snapshotStorage.getAddressBookFilePath()));
+    }
+
+    JournaledAddressBookStorage(AddressBookStorage snapshotStorage, PersonJournal journal) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journal);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        journal.forget();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(journal.replay(snapshot.get().getPersonList()));
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        journal.save(addressBook.getPersonList(), () -> snapshotStorage.saveAddressBook(addressBook, filePath));
+    }
+
+}
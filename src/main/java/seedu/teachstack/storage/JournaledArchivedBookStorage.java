@@ -0,0 +1,84 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.model.ArchivedBook;
+import seedu.teachstack.model.ReadOnlyArchivedBook;
+
+/**
+ * A class to access ArchivedBook data stored as a snapshot in another {@code ArchivedBookStorage}, together with a
+ * journal of the changes made since the snapshot was written.
+ * Only the file at {@link #getArchivedBookFilePath()} is journaled; other files are read and saved as snapshots.
+ *
+ * @see PersonJournal
+ */
+public class JournaledArchivedBookStorage implements ArchivedBookStorage {
+
+    private final ArchivedBookStorage snapshotStorage;
+    private final PersonJournal journal;
+
+    /**
+     * Creates a {@code JournaledArchivedBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledArchivedBookStorage(ArchivedBookStorage snapshotStorage) {
+        this(snapshotStorage, new PersonJournal(snapshotStorage.getArchivedBookFilePath()));
+    }
+
+    JournaledArchivedBookStorage(ArchivedBookStorage snapshotStorage, PersonJournal journal) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journal);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Path getArchivedBookFilePath() {
+        return snapshotStorage.getArchivedBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedBook() throws DataLoadingException {
+        return readArchivedBook(getArchivedBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getArchivedBookFilePath())) {
+            return snapshotStorage.readArchivedBook(filePath);
+        }
+
+        journal.forget();
+        Optional<ReadOnlyArchivedBook> snapshot = snapshotStorage.readArchivedBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        ArchivedBook archivedBook = new ArchivedBook();
+        archivedBook.setPersons(journal.replay(snapshot.get().getArchivedList()));
+        return Optional.of(archivedBook);
+    }
+
+    @Override
+    public void saveArchivedBook(ReadOnlyArchivedBook archivedBook) throws IOException {
+        saveArchivedBook(archivedBook, getArchivedBookFilePath());
+    }
+
+    @Override
+    public void saveArchivedBook(ReadOnlyArchivedBook archivedBook, Path filePath) throws IOException {
+        requireNonNull(archivedBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getArchivedBookFilePath())) {
+            snapshotStorage.saveArchivedBook(archivedBook, filePath);
+            return;
+        }
+
+        journal.save(archivedBook.getArchivedList(), () -> snapshotStorage.saveArchivedBook(archivedBook, filePath));
+    }
+
+}
@@ -18,7 +18,7 @@ public class JsonAdaptedGradeThreshold extends JsonAdaptedField {
 
     @Override
     public void performAction() {
-        Grade.modifyThreshold(new Grade(gradeThreshold));
+        Grade.modifyThreshold(Grade.of(gradeThreshold));
     }
 
     @Override
@@ -42,7 +42,7 @@ class JsonAdaptedGroup {
         if (!Group.isValidGroupName(groupName)) {
             throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
         }
-        return new Group(groupName);
+        return Group.of(groupName);
     }
 
     @Override
@@ -0,0 +1,100 @@
+package seedu.teachstack.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.teachstack.commons.exceptions.IllegalValueException;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.StudentId;
+import seedu.teachstack.model.person.UniquePersonList;
+import seedu.teachstack.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly version of one change to a list of persons, as recorded in a {@link PersonJournal}.
+ * A change removes the persons with the given student ids and then adds or replaces the given persons.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_CONFLICTING_PERSON = "Journal entry conflicts with an existing person: %s";
+
+    private final List<String> removedStudentIds = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("removedStudentIds") List<String> removedStudentIds,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (removedStudentIds != null) {
+            this.removedStudentIds.addAll(removedStudentIds);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts a change that removes the persons with {@code removed} student ids and adds or replaces
+     * {@code changed} persons into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(Set<StudentId> removed, List<Person> changed) {
+        for (StudentId studentId : removed) {
+            removedStudentIds.add(studentId.toString());
+        }
+        for (Person person : changed) {
+            persons.add(new JsonAdaptedPerson(person));
+        }
+    }
+
+    /**
+     * Applies this change to {@code target}, which must be sorted.
+     * The persons are applied together, so that persons in the same entry may swap emails. A person that replaces
+     * another with the same student id and email is moved the same way an edit would move it, and one whose email
+     * changed is added as if new.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(UniquePersonList target) throws IllegalValueException {
+        for (String removedStudentId : removedStudentIds) {
+            if (!StudentId.isValidStudentId(removedStudentId)) {
+                throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+            }
+            Person removed = target.get(new StudentId(removedStudentId));
+            if (removed != null) {
+                target.remove(removed);
+            }
+        }
+
+        List<Person> changed = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            changed.add(jsonAdaptedPerson.toModelType());
+        }
+        // Persons whose email changed are removed before any person is added, as the email of one may be taken by
+        // another person in this entry
+        for (Person person : changed) {
+            Person replaced = target.get(person.getStudentId());
+            if (replaced != null && !replaced.isSameEmail(person)) {
+                target.remove(replaced);
+            }
+        }
+
+        for (Person person : changed) {
+            Person replaced = target.get(person.getStudentId());
+            try {
+                if (replaced == null) {
+                    target.addSorted(person);
+                } else {
+                    target.setPersonSorted(replaced, person);
+                }
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_PERSON, person.getEmail()));
+            }
+        }
+    }
+
+}
@@ -1,7 +1,6 @@
 package seedu.teachstack.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -11,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.teachstack.commons.exceptions.IllegalValueException;
 import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
 import seedu.teachstack.model.person.Email;
 import seedu.teachstack.model.person.Grade;
 import seedu.teachstack.model.person.Name;
@@ -51,7 +51,7 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         name = source.getName().fullName;
-        studentId = source.getStudentId().id;
+        studentId = source.getStudentId().toString();
         email = source.getEmail().value;
         grade = source.getGrade().value;
         groups.addAll(source.getGroups().stream()
@@ -101,10 +101,10 @@ class JsonAdaptedPerson {
         if (!Grade.isValidGrade(grade)) {
             throw new IllegalValueException(Grade.MESSAGE_CONSTRAINTS);
         }
-        final Grade modelGrade = new Grade(grade);
+        final Grade modelGrade = Grade.of(grade);
 
 
-        final Set<Group> modelGroups = new HashSet<>(personGroups);
+        final Set<Group> modelGroups = GroupSet.of(personGroups);
         return new Person(modelName, modelStudentId, modelEmail, modelGrade, modelGroups);
 
     }
@@ -45,14 +45,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Persons are converted as they are read, so that the file is never held in memory as a whole
+        ParallelPersonConverter converter = new ParallelPersonConverter();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD,
+                    JsonAdaptedPerson.class, converter);
+            if (!isFound) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(converter.getPersons()));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +75,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Iterable<JsonAdaptedPerson> jsonAdaptedPersons = () -> addressBook.getPersonList().stream()
+                .map(JsonAdaptedPerson::new).iterator();
+        JsonUtil.saveJsonArrayFile(jsonAdaptedPersons, JsonSerializableAddressBook.PERSONS_FIELD, filePath);
     }
 
 }
@@ -45,14 +45,15 @@ public class JsonArchivedBookStorage implements ArchivedBookStorage {
     public Optional<ReadOnlyArchivedBook> readArchivedBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableArchivedBook> jsonArchivedBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableArchivedBook.class);
-        if (!jsonArchivedBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Persons are converted as they are read, so that the file is never held in memory as a whole
+        ParallelPersonConverter converter = new ParallelPersonConverter();
         try {
-            return Optional.of(jsonArchivedBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableArchivedBook.PERSONS_FIELD,
+                    JsonAdaptedPerson.class, converter);
+            if (!isFound) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableArchivedBook.toArchivedBook(converter.getPersons()));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +75,9 @@ public class JsonArchivedBookStorage implements ArchivedBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableArchivedBook(archivedBook), filePath);
+        Iterable<JsonAdaptedPerson> jsonAdaptedPersons = () -> archivedBook.getArchivedList().stream()
+                .map(JsonAdaptedPerson::new).iterator();
+        JsonUtil.saveJsonArrayFile(jsonAdaptedPersons, JsonSerializableArchivedBook.PERSONS_FIELD, filePath);
     }
 
 }
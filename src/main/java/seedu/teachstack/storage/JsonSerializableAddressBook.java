@@ -12,6 +12,7 @@ import seedu.teachstack.commons.exceptions.IllegalValueException;
 import seedu.teachstack.model.AddressBook;
 import seedu.teachstack.model.ReadOnlyAddressBook;
 import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,13 +22,16 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** The name of the field holding the persons. */
+    static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -46,14 +50,27 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Converts {@code modelPersons}, in the order they were read, into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        List<Integer> duplicateIndexes = UniquePersonList.getDuplicateIndexes(modelPersons);
+        if (!duplicateIndexes.isEmpty()) {
+            throw new IllegalValueException(UniquePersonList.getDuplicatePersonsMessage(MESSAGE_DUPLICATE_PERSON,
+                    modelPersons, duplicateIndexes));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
@@ -12,6 +12,7 @@ import seedu.teachstack.commons.exceptions.IllegalValueException;
 import seedu.teachstack.model.ArchivedBook;
 import seedu.teachstack.model.ReadOnlyArchivedBook;
 import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.UniquePersonList;
 
 /**
  * An Immutable ArchivedBook that is serializable to JSON format.
@@ -21,13 +22,16 @@ class JsonSerializableArchivedBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Archived list contains duplicate person(s).";
 
+    /** The name of the field holding the persons. */
+    static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableArchivedBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableArchivedBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableArchivedBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -46,14 +50,28 @@ class JsonSerializableArchivedBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ArchivedBook toModelType() throws IllegalValueException {
-        ArchivedBook archivedBook = new ArchivedBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (archivedBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            archivedBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
+        return toArchivedBook(modelPersons);
+    }
+
+    /**
+     * Converts {@code modelPersons}, in the order they were read, into the model's {@code ArchivedBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ArchivedBook toArchivedBook(List<Person> modelPersons) throws IllegalValueException {
+        List<Integer> duplicateIndexes = UniquePersonList.getDuplicateIndexes(modelPersons);
+        if (!duplicateIndexes.isEmpty()) {
+            throw new IllegalValueException(UniquePersonList.getDuplicatePersonsMessage(MESSAGE_DUPLICATE_PERSON,
+                    modelPersons, duplicateIndexes));
+        }
+
+        ArchivedBook archivedBook = new ArchivedBook();
+        archivedBook.setPersons(modelPersons);
+        archivedBook.sort();
         return archivedBook;
     }
 
@@ -19,8 +19,9 @@ import seedu.teachstack.model.person.Person;
  */
 @JsonRootName(value = "userdata")
 public class JsonSerializableUserData {
-    private static Grade gradeThreshold = Grade.retrieveThreshold();
-    private static Predicate<Person> lastRequestedFind = ModelManager.getStartingFilter();
+    // Volatile as user data is saved on a background thread
+    private static volatile Grade gradeThreshold = Grade.retrieveThreshold();
+    private static volatile Predicate<Person> lastRequestedFind = ModelManager.getStartingFilter();
     @JsonProperty("fields")
     private final List<JsonAdaptedField> fields = new ArrayList<>();
 
@@ -0,0 +1,93 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.model.ArchivedBook;
+import seedu.teachstack.model.ReadOnlyArchivedBook;
+
+/**
+ * A class to access ArchivedBook data stored as a file of records that is mapped into memory.
+ * The archived book read from the file keeps its persons in the file, and writes its changes to the file as they are
+ * made, so it never needs to be saved.
+ *
+ * @see MappedPersonStore
+ */
+public class MappedArchivedBookStorage implements ArchivedBookStorage {
+
+    public static final String RECORD_FILE_EXTENSION = ".records";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedArchivedBookStorage.class);
+
+    private Path filePath;
+
+    public MappedArchivedBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the record file kept in place of the JSON file at {@code jsonFilePath}.
+     */
+    public static Path getRecordFilePath(Path jsonFilePath) {
+        return BinaryPersonFile.getFilePathWithExtension(jsonFilePath, RECORD_FILE_EXTENSION);
+    }
+
+    public Path getArchivedBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedBook() throws DataLoadingException {
+        return readArchivedBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readArchivedBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyArchivedBook> readArchivedBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Record file " + filePath + " found.");
+
+        try {
+            return Optional.of(new ArchivedBook(MappedPersonStore.open(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from record file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveArchivedBook(ReadOnlyArchivedBook archivedBook) throws IOException {
+        saveArchivedBook(archivedBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveArchivedBook(ReadOnlyArchivedBook)}.
+     * An archived book read from {@code filePath} already holds the same persons as the file, so nothing is saved.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveArchivedBook(ReadOnlyArchivedBook archivedBook, Path filePath) throws IOException {
+        requireNonNull(archivedBook);
+        requireNonNull(filePath);
+
+        if (archivedBook.isWriteThrough() && filePath.equals(this.filePath)) {
+            return;
+        }
+        MappedPersonStore.save(archivedBook.getArchivedList(), filePath);
+    }
+
+}
@@ -0,0 +1,848 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.teachstack.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.teachstack.commons.collections.IntIntHashMap;
+import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.commons.util.FileUtil;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
+import seedu.teachstack.model.person.Email;
+import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.Name;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.PersonStore;
+import seedu.teachstack.model.person.StudentId;
+import seedu.teachstack.model.person.UniquePersonList;
+import seedu.teachstack.model.person.exceptions.DuplicatePersonException;
+import seedu.teachstack.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A {@link PersonStore} kept in a file of person records that is mapped into memory, so that opening it only reads
+ * the few fixed-size fields at the start of each record, and a person is only decoded when it is looked at.
+ *
+ * The file holds the bytes of {@link #MAGIC}, the format version, the number of bytes taken up by removed records and
+ * the length of the file up to the end of the last complete append, followed by the records in the order they were
+ * added. Each record starts with its length, a status byte, the grade, the packed student id, the hash of the email
+ * and a checksum, followed by the email, the name and the groups. The checksum covers every field after the status
+ * byte.
+ * A person is added by appending a record and then updating the length in the header, so bytes after that length
+ * can only be left by an interrupted append, and are discarded when the file is opened. A person is removed by
+ * marking its record as removed in place, so a change never rewrites the rest of the file. The space taken up by
+ * removed records is reclaimed when the file is opened.
+ *
+ * Only the offset of each record is kept in memory, in the order the persons are listed: by grade, then in the order
+ * they were added, which is also the order of their offsets. The offsets of the persons are also kept by packed student
+ * id, and the number of persons by the hash of their email, so that looking up a person does not read every record.
+ * The most recently decoded persons are cached.
+ *
+ * In a batch, the offsets are changed in a copy, and the offsets listeners see are left as they are until the batch is
+ * committed. Only the status byte of a record is ever changed in place, and a removed record keeps its other bytes,
+ * so the persons listeners see can be read from another thread while the batch is being made.
+ */
+class MappedPersonStore implements PersonStore {
+
+    public static final String MESSAGE_NOT_RECORD_FILE = "Not a TeachStack record file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported record file version: %d";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Record at byte %d is corrupted";
+    public static final String MESSAGE_MISSING_RECORDS = "Record file should have %d bytes, but only has %d";
+    public static final String MESSAGE_FILE_TOO_LARGE = "Record file is larger than 2 GB";
+
+    static final byte[] MAGIC = {'T', 'S', 'A', 'R'};
+    static final int VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedPersonStore.class);
+
+    private static final int REMOVED_BYTES_POSITION = 8;
+    private static final int DATA_LENGTH_POSITION = 16;
+    private static final int HEADER_LENGTH = 20;
+
+    // Positions of the fields of a record, from its start
+    private static final int STATUS = 4;
+    private static final int GRADE = 5;
+    private static final int STUDENT_ID = 6;
+    private static final int EMAIL_HASH = 10;
+    private static final int CHECKSUM = 14;
+    private static final int BODY = 18;
+
+    private static final byte LIVE = 1;
+    private static final byte REMOVED = 0;
+
+    private static final int CACHE_SIZE = 256;
+    private static final long MIN_REMOVED_BYTES_TO_COMPACT = 64 * 1024;
+
+    private final Path filePath;
+    private final PersonListView view = new PersonListView();
+    private final Map<Integer, Person> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+    private final IntIntHashMap offsetsById = new IntIntHashMap(-1);
+    // Emails are only compared when a person has the same email hash, as comparing them decodes the person
+    private final IntIntHashMap countsByEmailHash = new IntIntHashMap(0);
+
+    private volatile MappedByteBuffer buffer;
+    private int fileLength;
+    private long removedBytes;
+    private int[] offsets;
+    private int size;
+    private long modificationCount;
+
+    private boolean isInBatch;
+    // The offsets as listeners see them, which are the offsets themselves unless they have been changed in a batch
+    private int[] publishedOffsets;
+    private int publishedSize;
+
+    private MappedPersonStore(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Opens the store kept in the record file at {@code filePath}.
+     * Records left after the length in the header by an interrupted append are discarded.
+     *
+     * @throws IOException if the file could not be read or is not a valid record file.
+     */
+    static MappedPersonStore open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        MappedPersonStore store = new MappedPersonStore(filePath);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Saves {@code persons} as a new record file at {@code filePath}, in the order they are given.
+     * Overwrites the file if it exists, creates a new file if it doesn't.
+     */
+    static void save(List<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, fileOut -> {
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            DataOutputStream recordsOut = new DataOutputStream(records);
+            for (Person person : persons) {
+                writeRecord(recordsOut, person);
+            }
+            writeFile(fileOut, records);
+        });
+    }
+
+    private void load() throws IOException {
+        long removedBytesInFile;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            readHeader(in);
+            removedBytesInFile = in.readLong();
+        }
+        if (removedBytesInFile >= MIN_REMOVED_BYTES_TO_COMPACT && removedBytesInFile * 2 > Files.size(filePath)) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // The file is only replaced once it has been compacted in full, so it can still be used as it is
+                logger.warning("Failed to compact " + filePath + ": " + e);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_FILE_TOO_LARGE);
+            }
+            if (fileSize < HEADER_LENGTH) {
+                throw new IOException(MESSAGE_NOT_RECORD_FILE);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            fileLength = buffer.getInt(DATA_LENGTH_POSITION);
+            if (fileLength < HEADER_LENGTH || fileLength > fileSize) {
+                throw new IOException(String.format(MESSAGE_MISSING_RECORDS, fileLength, fileSize));
+            }
+            scanRecords();
+            if (fileLength < fileSize) {
+                logger.warning("Discarding an unfinished append at the end of " + filePath);
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileLength);
+                channel.truncate(fileLength);
+            }
+        }
+        removedBytes = buffer.getLong(REMOVED_BYTES_POSITION);
+    }
+
+    /**
+     * Checks every record in the mapped file up to {@code fileLength} and indexes the ones that are not removed.
+     *
+     * @throws IOException if a record is corrupted.
+     */
+    private void scanRecords() throws IOException {
+        int[] fileOrder = new int[16];
+        int liveCount = 0;
+        int position = HEADER_LENGTH;
+        while (position < fileLength) {
+            int length = fileLength - position < BODY ? 0 : buffer.getInt(position);
+            if (length < BODY || length > fileLength - position || !hasValidChecksum(position, length)) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, position));
+            }
+            if (buffer.get(position + STATUS) == LIVE) {
+                if (!Grade.isValidGrade(Grade.intToGrade(buffer.get(position + GRADE)))) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, position));
+                }
+                if (liveCount == fileOrder.length) {
+                    fileOrder = Arrays.copyOf(fileOrder, liveCount * 2);
+                }
+                fileOrder[liveCount++] = position;
+                index(position);
+            }
+            position += length;
+        }
+
+        // A counting sort by grade keeps persons with the same grade in the order they were added
+        int[] gradeStarts = new int[Byte.MAX_VALUE + 2];
+        for (int i = 0; i < liveCount; i++) {
+            gradeStarts[getGrade(fileOrder[i]) + 1]++;
+        }
+        for (int grade = 1; grade < gradeStarts.length; grade++) {
+            gradeStarts[grade] += gradeStarts[grade - 1];
+        }
+        offsets = new int[Math.max(16, liveCount)];
+        for (int i = 0; i < liveCount; i++) {
+            offsets[gradeStarts[getGrade(fileOrder[i])]++] = fileOrder[i];
+        }
+        size = liveCount;
+        publishedOffsets = offsets;
+        publishedSize = size;
+    }
+
+    private boolean hasValidChecksum(int offset, int length) {
+        CRC32 crc = new CRC32();
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset + GRADE).limit(offset + CHECKSUM);
+        crc.update(record);
+        record.limit(offset + length).position(offset + BODY);
+        crc.update(record);
+        return buffer.getInt(offset + CHECKSUM) == (int) crc.getValue();
+    }
+
+    /**
+     * Rewrites the file with only the records that are not removed.
+     */
+    private void compact() throws IOException {
+        logger.info("Reclaiming the space of removed records in " + filePath);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            readHeader(in);
+            in.readLong();
+            int dataLength = in.readInt();
+            FileUtil.writeToFile(filePath, fileOut -> {
+                ByteArrayOutputStream records = new ByteArrayOutputStream();
+                copyLiveRecords(in, new DataOutputStream(records), dataLength);
+                writeFile(fileOut, records);
+            });
+        }
+    }
+
+    /**
+     * Copies the records from {@code in}, which is at the end of the header, up to {@code dataLength} to {@code out},
+     * leaving out removed records. The checksums of the records are checked when the file is scanned.
+     *
+     * @throws IOException if the records up to {@code dataLength} could not be read.
+     */
+    private static void copyLiveRecords(DataInputStream in, DataOutputStream out, int dataLength)
+            throws IOException {
+        byte[] record = new byte[BODY];
+        int position = HEADER_LENGTH;
+        while (position < dataLength) {
+            int length = in.readInt();
+            if (length < BODY || length > dataLength - position) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, position));
+            }
+            if (record.length < length) {
+                record = new byte[length];
+            }
+            in.readFully(record, Integer.BYTES, length - Integer.BYTES);
+            if (record[STATUS] == LIVE) {
+                out.writeInt(length);
+                out.write(record, Integer.BYTES, length - Integer.BYTES);
+            }
+            position += length;
+        }
+    }
+
+    /**
+     * Writes a header with no removed bytes followed by {@code records} to {@code fileOut}.
+     */
+    private static void writeFile(OutputStream fileOut, ByteArrayOutputStream records) throws IOException {
+        if ((long) HEADER_LENGTH + records.size() > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_FILE_TOO_LARGE);
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut));
+        writeHeader(out, 0, HEADER_LENGTH + records.size());
+        records.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Reads the magic bytes and the format version at the start of {@code in}, leaving it at the number of removed
+     * bytes.
+     */
+    private static void readHeader(DataInputStream in) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(MESSAGE_NOT_RECORD_FILE);
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, long removedBytes, int dataLength) throws IOException {
+        out.write(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(removedBytes);
+        out.writeInt(dataLength);
+    }
+
+    private static void writeRecord(DataOutputStream out, Person person) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream bodyOut = new DataOutputStream(body);
+        bodyOut.writeUTF(person.getEmail().value);
+        bodyOut.writeUTF(person.getName().fullName);
+        bodyOut.writeInt(person.getGroups().size());
+        for (Group group : person.getGroups()) {
+            bodyOut.writeUTF(group.groupName);
+        }
+
+        ByteBuffer fixedFields = ByteBuffer.allocate(CHECKSUM - GRADE)
+                .put((byte) person.getGrade().gradeToInt())
+                .putInt(person.getStudentId().getPackedValue())
+                .putInt(person.getEmail().value.hashCode());
+        CRC32 crc = new CRC32();
+        crc.update(fixedFields.array());
+        crc.update(body.toByteArray());
+        out.writeInt(BODY + body.size());
+        out.writeByte(LIVE);
+        out.write(fixedFields.array());
+        out.writeInt((int) crc.getValue());
+        body.writeTo(out);
+    }
+
+    /**
+     * Returns the person in the record at {@code offset}, decoding it if it is not cached.
+     */
+    private Person decode(int offset) {
+        Person cached = cache.get(offset);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] body = new byte[buffer.getInt(offset) - BODY];
+        ByteBuffer source = buffer.duplicate();
+        source.position(offset + BODY);
+        source.get(body);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        try {
+            Email email = new Email(in.readUTF());
+            Name name = new Name(in.readUTF());
+            int groupCount = in.readInt();
+            List<Group> groups = new ArrayList<>(groupCount);
+            for (int i = 0; i < groupCount; i++) {
+                groups.add(Group.of(in.readUTF()));
+            }
+            StudentId studentId = StudentId.fromPackedValue(getStudentId(offset));
+            Grade grade = Grade.of(Grade.intToGrade(getGrade(offset)));
+            Person person = new Person(name, studentId, email, grade, GroupSet.of(groups));
+            cache.put(offset, person);
+            return person;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int getGrade(int offset) {
+        return buffer.get(offset + GRADE);
+    }
+
+    private int getStudentId(int offset) {
+        return buffer.getInt(offset + STUDENT_ID);
+    }
+
+    private int getEmailHash(int offset) {
+        return buffer.getInt(offset + EMAIL_HASH);
+    }
+
+    /**
+     * Adds the record at {@code offset} to the lookups by student id and email hash.
+     */
+    private void index(int offset) {
+        offsetsById.put(getStudentId(offset), offset);
+        int emailHash = getEmailHash(offset);
+        countsByEmailHash.put(emailHash, countsByEmailHash.get(emailHash) + 1);
+    }
+
+    /**
+     * Removes the record at {@code offset} from the lookups by student id and email hash, leaving the offset of a newer
+     * record with the same student id in place.
+     */
+    private void unindex(int offset) {
+        int studentId = getStudentId(offset);
+        if (offsetsById.get(studentId) == offset) {
+            offsetsById.remove(studentId);
+        }
+        int emailHash = getEmailHash(offset);
+        int count = countsByEmailHash.get(emailHash);
+        if (count > 1) {
+            countsByEmailHash.put(emailHash, count - 1);
+        } else {
+            countsByEmailHash.remove(emailHash);
+        }
+    }
+
+    /**
+     * Appends a record for each of {@code persons} to the file.
+     *
+     * @return the offsets of the new records.
+     */
+    private int[] append(List<Person> persons) {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        int[] appended = new int[persons.size()];
+        try {
+            for (int i = 0; i < persons.size(); i++) {
+                appended[i] = fileLength + records.size();
+                writeRecord(out, persons.get(i));
+            }
+            if ((long) fileLength + records.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_FILE_TOO_LARGE);
+            }
+
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                ByteBuffer source = ByteBuffer.wrap(records.toByteArray());
+                while (source.hasRemaining()) {
+                    channel.write(source, fileLength + source.position());
+                }
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileLength + records.size());
+            }
+            // Only now do the records count as added, so an append cut short is discarded when the file is opened
+            buffer.putInt(DATA_LENGTH_POSITION, fileLength + records.size());
+        } catch (IOException e) {
+            logger.warning("Failed to append to " + filePath + ": " + e);
+            throw new UncheckedIOException(e);
+        }
+        fileLength += records.size();
+        for (int offset : appended) {
+            index(offset);
+        }
+        return appended;
+    }
+
+    /**
+     * Marks the record at {@code offset} as removed, in place.
+     */
+    private void markRemoved(int offset) {
+        unindex(offset);
+        buffer.put(offset + STATUS, REMOVED);
+        removedBytes += buffer.getInt(offset);
+        buffer.putLong(REMOVED_BYTES_POSITION, removedBytes);
+        cache.remove(offset);
+    }
+
+    private void insertOffset(int index, int offset) {
+        holdBackChanges();
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+        }
+        System.arraycopy(offsets, index, offsets, index + 1, size - index);
+        offsets[index] = offset;
+        size++;
+    }
+
+    private void removeOffset(int index) {
+        holdBackChanges();
+        System.arraycopy(offsets, index + 1, offsets, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Returns the index of the first person that is ordered after a person with the given {@code grade}.
+     */
+    private int upperBound(int grade) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getGrade(offsets[mid]) <= grade) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the person in the record at {@code offset}, or -1 if it is not listed.
+     * Persons with the same grade are listed in the order they were added, so the offsets are ordered by grade and then
+     * by offset.
+     */
+    private int indexOfOffset(int offset) {
+        int grade = getGrade(offset);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midGrade = getGrade(offsets[mid]);
+            if (midGrade < grade || midGrade == grade && offsets[mid] < offset) {
+                low = mid + 1;
+            } else if (midGrade > grade || offsets[mid] > offset) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfId(StudentId studentId) {
+        int offset = offsetsById.get(studentId.getPackedValue());
+        return offset == -1 ? -1 : indexOfOffset(offset);
+    }
+
+    private boolean hasEmail(Email email) {
+        int hash = email.value.hashCode();
+        if (countsByEmailHash.get(hash) == 0) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (getEmailHash(offsets[i]) == hash && decode(offsets[i]).getEmail().equals(email)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(Person person) {
+        int index = indexOfId(person.getStudentId());
+        return index != -1 && decode(offsets[index]).equals(person) ? index : -1;
+    }
+
+    @Override
+    public boolean contains(Person toCheck) {
+        requireNonNull(toCheck);
+        return containsByEmail(toCheck) || containsById(toCheck);
+    }
+
+    @Override
+    public boolean containsByEmail(Person toCheck) {
+        requireNonNull(toCheck);
+        return hasEmail(toCheck.getEmail());
+    }
+
+    @Override
+    public boolean containsById(Person toCheck) {
+        requireNonNull(toCheck);
+        return offsetsById.containsKey(toCheck.getStudentId().getPackedValue());
+    }
+
+    @Override
+    public Person get(StudentId studentId) {
+        requireNonNull(studentId);
+        int offset = offsetsById.get(studentId.getPackedValue());
+        return offset == -1 ? null : decode(offset);
+    }
+
+    @Override
+    public void addToArchive(Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+
+        int offset = append(Collections.singletonList(toAdd))[0];
+        int index = upperBound(toAdd.getGrade().gradeToInt());
+        insertOffset(index, offset);
+        modificationCount++;
+        view.fireAdded(index);
+    }
+
+    /**
+     * Replaces the person {@code target} in the store with {@code editedPerson}.
+     * The store is always sorted, so this is the same as {@link #setPersonSorted(Person, Person)}.
+     */
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        setPersonSorted(target, editedPerson);
+    }
+
+    /**
+     * Replaces the person {@code target} in the store with {@code editedPerson}, which is placed after the other
+     * persons with its grade, as it was the last to be added.
+     */
+    @Override
+    public void setPersonSorted(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        if ((!target.isSameEmail(editedPerson) && containsByEmail(editedPerson))
+                || !target.isSameId(editedPerson) && containsById(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        // Appended first, so that a failed append leaves the target in place
+        int offset = append(Collections.singletonList(editedPerson))[0];
+        markRemoved(offsets[index]);
+        removeOffset(index);
+        int newIndex = upperBound(editedPerson.getGrade().gradeToInt());
+        insertOffset(newIndex, offset);
+        modificationCount++;
+        view.fireMoved(index, target, newIndex);
+    }
+
+    @Override
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        markRemoved(offsets[index]);
+        removeOffset(index);
+        modificationCount++;
+        view.fireRemoved(index, toRemove);
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!UniquePersonList.getDuplicateIndexes(persons).isEmpty()) {
+            throw new DuplicatePersonException();
+        }
+
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(null);
+        int[] appended = append(sortedPersons);
+
+        // Removed records keep their bytes until the file is compacted, so the removed persons can still be decoded
+        int[] removedOffsets = Arrays.copyOf(offsets, size);
+        for (int offset : removedOffsets) {
+            markRemoved(offset);
+        }
+        offsets = Arrays.copyOf(appended, Math.max(16, appended.length));
+        size = appended.length;
+        modificationCount++;
+        view.fireReplacedAll(decodeLazily(removedOffsets));
+    }
+
+    /**
+     * Returns the persons in the records at {@code recordOffsets}, each of which is only decoded when it is asked for.
+     */
+    private List<Person> decodeLazily(int[] recordOffsets) {
+        return new AbstractList<Person>() {
+            @Override
+            public Person get(int index) {
+                return decode(recordOffsets[index]);
+            }
+
+            @Override
+            public int size() {
+                return recordOffsets.length;
+            }
+        };
+    }
+
+    @Override
+    public void beginBatch() {
+        assert !isInBatch;
+        isInBatch = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the persons from the first to the last one that changed are replaced.
+     */
+    @Override
+    public void commitBatch() {
+        assert isInBatch;
+        isInBatch = false;
+        if (publishedOffsets != offsets || publishedSize != size) {
+            view.fireChangedSince(publishedOffsets, publishedSize);
+        }
+    }
+
+    /**
+     * Moves the changes to a copy of the offsets before the first change to them in a batch, so that the offsets
+     * listeners see are left as they are.
+     */
+    private void holdBackChanges() {
+        if (isInBatch && offsets == publishedOffsets) {
+            offsets = offsets.clone();
+        }
+    }
+
+    /**
+     * Does nothing, as the store is always sorted.
+     */
+    @Override
+    public void sort() {}
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return view;
+    }
+
+    @Override
+    public boolean isWriteThrough() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    /**
+     * The persons in the store, in order, decoding each person only when it is asked for.
+     */
+    private class PersonListView extends ObservableListBase<Person> {
+
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= publishedSize) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + publishedSize);
+            }
+            return decode(publishedOffsets[index]);
+        }
+
+        @Override
+        public int size() {
+            return publishedSize;
+        }
+
+        /**
+         * Shows the current persons to listeners and returns true, unless a batch is in progress.
+         */
+        private boolean publish() {
+            if (isInBatch) {
+                return false;
+            }
+            publishedOffsets = offsets;
+            publishedSize = size;
+            return true;
+        }
+
+        private void fireAdded(int index) {
+            if (!publish()) {
+                return;
+            }
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        private void fireRemoved(int index, Person removed) {
+            if (!publish()) {
+                return;
+            }
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        private void fireMoved(int index, Person removed, int newIndex) {
+            if (!publish()) {
+                return;
+            }
+            beginChange();
+            nextRemove(index, removed);
+            nextAdd(newIndex, newIndex + 1);
+            endChange();
+        }
+
+        private void fireReplacedAll(List<Person> removed) {
+            if (!publish()) {
+                return;
+            }
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size > 0) {
+                nextAdd(0, size);
+            }
+            endChange();
+        }
+
+        /**
+         * Fires the change from the persons at {@code oldOffsets} to the current persons, replacing only the persons
+         * from the first to the last one whose record changed.
+         */
+        private void fireChangedSince(int[] oldOffsets, int oldSize) {
+            publish();
+            int from = 0;
+            while (from < oldSize && from < size && oldOffsets[from] == offsets[from]) {
+                from++;
+            }
+            int oldTo = oldSize;
+            int newTo = size;
+            while (oldTo > from && newTo > from && oldOffsets[oldTo - 1] == offsets[newTo - 1]) {
+                oldTo--;
+                newTo--;
+            }
+            if (from == oldTo && from == newTo) {
+                return;
+            }
+
+            // Removed records keep their bytes until the file is compacted, so the removed persons can be decoded
+            List<Person> removed = decodeLazily(Arrays.copyOfRange(oldOffsets, from, oldTo));
+            beginChange();
+            if (removed.isEmpty()) {
+                nextAdd(from, newTo);
+            } else if (from == newTo) {
+                nextRemove(from, removed);
+            } else {
+                nextReplace(from, newTo, removed);
+            }
+            endChange();
+        }
+    }
+}
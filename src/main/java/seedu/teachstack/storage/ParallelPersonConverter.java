@@ -0,0 +1,70 @@
+package seedu.teachstack.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import seedu.teachstack.commons.exceptions.IllegalValueException;
+import seedu.teachstack.commons.util.JsonUtil.JsonItemHandler;
+import seedu.teachstack.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s to model {@code Person}s while they are still being read.
+ * Persons are converted in chunks of {@link #CHUNK_SIZE} on the common fork-join pool, so that checking each field
+ * of a person overlaps with parsing the rest of the file. The converted persons keep the order they were read in,
+ * and the first invalid person is reported, as if they were converted one at a time.
+ */
+class ParallelPersonConverter implements JsonItemHandler<JsonAdaptedPerson> {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final List<CompletableFuture<List<Person>>> convertedChunks = new ArrayList<>();
+    private List<JsonAdaptedPerson> chunk = new ArrayList<>();
+
+    @Override
+    public void handle(JsonAdaptedPerson jsonAdaptedPerson) {
+        chunk.add(jsonAdaptedPerson);
+        if (chunk.size() == CHUNK_SIZE) {
+            List<JsonAdaptedPerson> fullChunk = chunk;
+            convertedChunks.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return convert(fullChunk);
+                } catch (IllegalValueException ive) {
+                    throw new CompletionException(ive);
+                }
+            }));
+            chunk = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns all the persons handled so far, in the order they were handled, once they have been converted.
+     * The last chunk, which is not full, is converted on the calling thread.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in a person.
+     */
+    public List<Person> getPersons() throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(convertedChunks.size() * CHUNK_SIZE + chunk.size());
+        for (CompletableFuture<List<Person>> convertedChunk : convertedChunks) {
+            try {
+                persons.addAll(convertedChunk.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IllegalValueException) {
+                    throw (IllegalValueException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        persons.addAll(convert(chunk));
+        return persons;
+    }
+
+    private static List<Person> convert(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(jsonAdaptedPersons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+            persons.add(jsonAdaptedPerson.toModelType());
+        }
+        return persons;
+    }
+}
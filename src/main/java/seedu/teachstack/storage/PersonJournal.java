@@ -0,0 +1,297 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.teachstack.commons.collections.IntObjectHashMap;
+import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.commons.exceptions.IllegalValueException;
+import seedu.teachstack.commons.util.FileUtil;
+import seedu.teachstack.commons.util.JsonUtil;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.StudentId;
+import seedu.teachstack.model.person.UniquePersonList;
+
+/**
+ * An append-only log of the changes made to a list of persons since its snapshot was last written.
+ * Saving a list appends only the persons that were added, edited or removed since the last save, and the snapshot is
+ * rewritten only once the journal grows past {@code maxBytes} or its oldest entry is older than {@code maxAgeMillis}.
+ *
+ * Each entry is one line holding the CRC-32 of the entry followed by the entry in JSON. An entry that was only partly
+ * written, such as when the app was stopped in the middle of a save, fails its check and is discarded. Only the last
+ * entry can be partly written, so an entry that fails its check with entries after it means the journal is corrupted.
+ *
+ * Not thread-safe: reads and saves must not overlap.
+ */
+class PersonJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_MAX_BYTES = 256 * 1024;
+    public static final long DEFAULT_MAX_AGE_MILLIS = 10 * 60 * 1000;
+    public static final String MESSAGE_CORRUPTED_ENTRY = "Journal entry at byte %d is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(PersonJournal.class);
+
+    private static final int CHECKSUM_LENGTH = 8;
+
+    /**
+     * Writes a full snapshot of the list.
+     */
+    @FunctionalInterface
+    interface SnapshotWriter {
+        void write() throws IOException;
+    }
+
+    private final Path journalPath;
+    private final long maxBytes;
+    private final long maxAgeMillis;
+
+    // The persons as of the last save or read, by student id. Null if not known, in which case a snapshot is needed.
+    // The saved persons, keyed by the packed values of their student IDs
+    private IntObjectHashMap<Person> savedPersons;
+    private long journalBytes;
+    private long oldestEntryMillis;
+
+    /**
+     * Creates a {@code PersonJournal} for the snapshot at {@code snapshotPath} with the default thresholds.
+     */
+    PersonJournal(Path snapshotPath) {
+        this(snapshotPath, DEFAULT_MAX_BYTES, DEFAULT_MAX_AGE_MILLIS);
+    }
+
+    /**
+     * Creates a {@code PersonJournal} for the snapshot at {@code snapshotPath} that asks for the snapshot to be
+     * rewritten once the journal holds more than {@code maxBytes}, or holds an entry older than {@code maxAgeMillis}.
+     */
+    PersonJournal(Path snapshotPath, long maxBytes, long maxAgeMillis) {
+        requireNonNull(snapshotPath);
+        this.journalPath = getJournalPath(snapshotPath);
+        this.maxBytes = maxBytes;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the persons in {@code snapshotPersons}, the list read from the snapshot, sorted and with every complete
+     * entry in the journal applied to them.
+     * A partly written entry at the end of the journal is discarded and cut off the journal.
+     *
+     * @throws DataLoadingException if the journal could not be read, holds an invalid change, or holds an entry that
+     *     fails its check before its last line.
+     */
+    List<Person> replay(List<Person> snapshotPersons) throws DataLoadingException {
+        requireNonNull(snapshotPersons);
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(snapshotPersons);
+        // Entries are applied the way the model applies changes to its sorted lists
+        persons.sort();
+        journalBytes = 0;
+
+        if (FileUtil.isFileExists(journalPath)) {
+            try {
+                replayEntries(persons);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Error replaying journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+
+        List<Person> replayed = new ArrayList<>(persons.asUnmodifiableObservableList());
+        savedPersons = toMap(replayed);
+        oldestEntryMillis = System.currentTimeMillis();
+        return replayed;
+    }
+
+    private void replayEntries(UniquePersonList persons) throws IOException, IllegalValueException {
+        byte[] journal = Files.readAllBytes(journalPath);
+        int entryCount = 0;
+        int start = 0;
+        while (start < journal.length) {
+            int end = indexOfLineBreak(journal, start);
+            JsonAdaptedJournalEntry entry = end == -1 ? null : parseEntry(journal, start, end);
+            if (entry == null) {
+                boolean isLastLine = end == -1 || end == journal.length - 1;
+                if (!isLastLine) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_ENTRY, start));
+                }
+                discardFrom(start, journal.length);
+                break;
+            }
+            entry.applyTo(persons);
+            entryCount++;
+            start = end + 1;
+        }
+        journalBytes = start;
+        logger.info("Replayed " + entryCount + " journal entries from " + journalPath);
+    }
+
+    private static int indexOfLineBreak(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the entry on the line from {@code start} to {@code end} of {@code journal}, or null if the line does
+     * not hold an entry that passes its check.
+     */
+    private static JsonAdaptedJournalEntry parseEntry(byte[] journal, int start, int end) {
+        int jsonStart = start + CHECKSUM_LENGTH + 1;
+        if (jsonStart > end || journal[jsonStart - 1] != ' ') {
+            return null;
+        }
+        String checksum = new String(journal, start, CHECKSUM_LENGTH, StandardCharsets.US_ASCII);
+        if (!checksum.equals(getChecksum(journal, jsonStart, end - jsonStart))) {
+            return null;
+        }
+        try {
+            String json = new String(journal, jsonStart, end - jsonStart, StandardCharsets.UTF_8);
+            return JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void discardFrom(int position, int journalLength) throws IOException {
+        logger.warning("Discarding " + (journalLength - position) + " bytes of an incomplete journal entry from "
+                + journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(position);
+        }
+    }
+
+    /**
+     * Forgets what was last saved, such as when the snapshot could not be read.
+     * The next save then writes a snapshot, and drops the journal after it.
+     */
+    void forget() {
+        savedPersons = null;
+    }
+
+    /**
+     * Saves {@code persons} by appending the changes since the last save to the journal.
+     * Calls {@code snapshotWriter} to write a full snapshot instead when the journal is due to be compacted, or when
+     * it is not known what was last saved.
+     */
+    void save(List<Person> persons, SnapshotWriter snapshotWriter) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(snapshotWriter);
+
+        if (savedPersons == null) {
+            // The journal may hold changes to an older snapshot, which must not be applied to the new one. It is only
+            // dropped once the new snapshot is written, so that a failed write leaves the older data readable.
+            snapshotWriter.write();
+            Files.deleteIfExists(journalPath);
+            journalBytes = 0;
+            savedPersons = toMap(persons);
+            return;
+        }
+
+        IntObjectHashMap<Person> currentPersons = toMap(persons);
+        try {
+            appendChanges(currentPersons, persons);
+        } catch (IOException e) {
+            // A partly appended entry would hide every later entry, so start over from a snapshot next time
+            savedPersons = null;
+            throw e;
+        }
+        savedPersons = currentPersons;
+
+        if (isCompactionDue()) {
+            // The changes are appended first, so that replaying the journal onto the new snapshot
+            // still gives the same persons if the journal cannot be cleared
+            snapshotWriter.write();
+            truncateJournal();
+        }
+    }
+
+    private void appendChanges(IntObjectHashMap<Person> currentPersons, List<Person> persons) throws IOException {
+        Set<StudentId> removed = new HashSet<>();
+        savedPersons.forEachValue(person -> {
+            if (!currentPersons.containsKey(person.getStudentId().getPackedValue())) {
+                removed.add(person.getStudentId());
+            }
+        });
+        List<Person> changed = new ArrayList<>();
+        for (Person person : persons) {
+            if (!person.equals(savedPersons.get(person.getStudentId().getPackedValue()))) {
+                changed.add(person);
+            }
+        }
+        if (removed.isEmpty() && changed.isEmpty()) {
+            return;
+        }
+
+        byte[] json = JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(removed, changed))
+                .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer line = ByteBuffer.allocate(CHECKSUM_LENGTH + 1 + json.length + 1);
+        line.put(getChecksum(json, 0, json.length).getBytes(StandardCharsets.US_ASCII))
+                .put((byte) ' ').put(json).put((byte) '\n');
+        line.flip();
+
+        if (journalBytes == 0) {
+            oldestEntryMillis = System.currentTimeMillis();
+        }
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            channel.force(false);
+        }
+        journalBytes += line.limit();
+    }
+
+    private boolean isCompactionDue() {
+        return journalBytes > maxBytes
+                || (journalBytes > 0 && System.currentTimeMillis() - oldestEntryMillis >= maxAgeMillis);
+    }
+
+    private void truncateJournal() throws IOException {
+        if (FileUtil.isFileExists(journalPath)) {
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(0);
+            }
+        }
+        journalBytes = 0;
+    }
+
+    private static String getChecksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return String.format("%08x", crc.getValue());
+    }
+
+    private static IntObjectHashMap<Person> toMap(List<Person> persons) {
+        IntObjectHashMap<Person> map = new IntObjectHashMap<>(persons.size());
+        for (Person person : persons) {
+            map.put(person.getStudentId().getPackedValue(), person);
+        }
+        return map;
+    }
+
+}
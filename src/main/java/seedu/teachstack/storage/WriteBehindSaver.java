@@ -0,0 +1,147 @@
+package seedu.teachstack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.teachstack.commons.core.LogsCenter;
+import seedu.teachstack.commons.util.StringUtil;
+import seedu.teachstack.model.ReadOnlyAddressBook;
+import seedu.teachstack.model.ReadOnlyArchivedBook;
+
+/**
+ * Saves data to a {@code Storage} on a single background thread.
+ * Save requests made before a scheduled save starts are combined into one save of the latest data,
+ * and a requested save starts at most {@code maxDelayMillis} after it is requested.
+ * Only the files that have been requested to be saved are written.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private static final String THREAD_NAME = "storage-writer";
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 5;
+
+    /**
+     * Saves one book or the user data.
+     */
+    @FunctionalInterface
+    private interface SaveTask {
+        void save() throws IOException;
+    }
+
+    private final Storage storage;
+    private final long maxDelayMillis;
+    private final Consumer<Exception> errorHandler;
+    private final ScheduledThreadPoolExecutor writer;
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyArchivedBook> pendingArchivedBook = new AtomicReference<>();
+    private final AtomicBoolean isUserDataPending = new AtomicBoolean();
+    private final AtomicBoolean isSaveScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage}.
+     * {@code errorHandler} is called on the background thread whenever saving a book or the user data fails, with the
+     * {@code IOException} or {@code RuntimeException} it failed with.
+     */
+    public WriteBehindSaver(Storage storage, long maxDelayMillis, Consumer<Exception> errorHandler) {
+        requireNonNull(storage);
+        requireNonNull(errorHandler);
+        this.storage = storage;
+        this.maxDelayMillis = maxDelayMillis;
+        this.errorHandler = errorHandler;
+
+        writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Let the writer thread end while there is nothing to save
+        writer.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved.
+     * The given book must not be modified after this call.
+     */
+    public void requestSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingAddressBook.set(addressBook);
+        scheduleSave();
+    }
+
+    /**
+     * Schedules {@code archivedBook} to be saved.
+     * The given book must not be modified after this call.
+     */
+    public void requestSaveArchivedBook(ReadOnlyArchivedBook archivedBook) {
+        requireNonNull(archivedBook);
+        pendingArchivedBook.set(archivedBook);
+        scheduleSave();
+    }
+
+    /**
+     * Schedules the user data to be saved.
+     */
+    public void requestSaveUserData() {
+        isUserDataPending.set(true);
+        scheduleSave();
+    }
+
+    private void scheduleSave() {
+        if (isSaveScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::savePending, maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves any data that has been requested to be saved but not saved yet, and waits for the save to finish.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    private void savePending() {
+        // Cleared before taking the pending data, so that a request made during this save schedules another one
+        isSaveScheduled.set(false);
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        ReadOnlyArchivedBook archivedBook = pendingArchivedBook.getAndSet(null);
+        boolean isUserDataRequested = isUserDataPending.getAndSet(false);
+
+        // Each is saved even if saving another failed
+        if (addressBook != null) {
+            save("address book", () -> storage.saveAddressBook(addressBook));
+        }
+        if (archivedBook != null) {
+            save("archived book", () -> storage.saveArchivedBook(archivedBook));
+        }
+        if (isUserDataRequested) {
+            save("user data", storage::saveUserData);
+        }
+    }
+
+    private void save(String dataName, SaveTask task) {
+        try {
+            task.save();
+        } catch (IOException | RuntimeException e) {
+            // A RuntimeException would otherwise end the scheduled task without any report
+            logger.warning("Failed to save " + dataName + " " + StringUtil.getDetails(e));
+            errorHandler.accept(e);
+        }
+    }
+}
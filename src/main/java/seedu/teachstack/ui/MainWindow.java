@@ -1,5 +1,8 @@
 package seedu.teachstack.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -21,8 +24,8 @@ import javafx.stage.Stage;
 import seedu.teachstack.commons.core.GuiSettings;
 import seedu.teachstack.commons.core.LogsCenter;
 import seedu.teachstack.logic.Logic;
+import seedu.teachstack.logic.Messages;
 import seedu.teachstack.logic.commands.CommandResult;
-import seedu.teachstack.logic.commands.exceptions.CommandException;
 import seedu.teachstack.logic.parser.exceptions.ParseException;
 
 /**
@@ -43,6 +46,11 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private ArchivedPersonListPanel archivedPersonListPanel;
+    private StatusBarFooter statusBarFooter;
+
+    // Commands entered while the data was loading, to be executed in order once it has loaded
+    private final List<String> queuedCommandTexts = new ArrayList<>();
+    private int runningCommandCount;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -128,17 +136,39 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        statusBarFooter.setLoading(!logic.isDataLoaded());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
+        // The archived list is only known once the data has loaded
+        if (logic.isDataLoaded()) {
+            fillArchivedListPanel();
+        }
+    }
+
+    private void fillArchivedListPanel() {
         archivedPersonListPanel = new ArchivedPersonListPanel(logic.getFilteredArchivedList());
         archivedListPanelPlaceholder.getChildren().add(archivedPersonListPanel.getRoot());
     }
 
+    /**
+     * Shows the archived persons and hides the loading indicator, then executes the commands that were entered while
+     * the data was loading.
+     */
+    void handleDataLoaded() {
+        statusBarFooter.setLoading(false);
+        fillArchivedListPanel();
+
+        List<String> commandTexts = new ArrayList<>(queuedCommandTexts);
+        queuedCommandTexts.clear();
+        commandTexts.forEach(this::executeCommand);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -198,36 +228,70 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, showing that it is running until it is done, and returns its future
+     * result. Commands are executed one at a time, in the order they are entered.
      *
-     * @see seedu.teachstack.logic.Logic#execute(String)
+     * @see seedu.teachstack.logic.Logic#executeInBackground(String, java.util.concurrent.Executor)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+            if (!logic.canExecute(commandText)) {
+                return CompletableFuture.completedFuture(queueCommand(commandText));
             }
+        } catch (ParseException e) {
+            handleCommandFailure(commandText, e);
+            return CompletableFuture.failedFuture(e);
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
+        runningCommandCount++;
+        statusBarFooter.setBusy(true);
+        return logic.executeInBackground(commandText, Platform::runLater).whenComplete((commandResult, error) -> {
+            runningCommandCount--;
+            if (runningCommandCount == 0) {
+                statusBarFooter.setBusy(false);
             }
 
-            if (commandResult.isShowPopUp() && commandResult.getAdditionalComponent() != null) {
-                showChartPopup(commandResult.getAdditionalComponent(), commandResult.getFeedbackToUser());
+            if (error == null) {
+                handleCommandResult(commandResult);
+            } else {
+                handleCommandFailure(commandText, error);
             }
+        });
+    }
+
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowPopUp() && commandResult.getAdditionalComponent() != null) {
+            showChartPopup(commandResult.getAdditionalComponent(), commandResult.getFeedbackToUser());
         }
     }
 
+    private void handleCommandFailure(String commandText, Throwable error) {
+        logger.info("An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(error.getMessage());
+    }
+
+    /**
+     * Queues the command to be executed once the data has loaded, and returns the result of queueing it.
+     */
+    private CommandResult queueCommand(String commandText) {
+        logger.info("Queued until the data has loaded: " + commandText);
+        queuedCommandTexts.add(commandText);
+        CommandResult commandResult = new CommandResult(String.format(Messages.MESSAGE_COMMAND_QUEUED, commandText));
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        return commandResult;
+    }
+
     /**
      * Creates the popup for the summary command
      * @param chart is the pie chart of the grades
@@ -4,9 +4,12 @@ import java.awt.Desktop;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -22,7 +25,7 @@ public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -52,27 +55,56 @@ public class PersonCard extends UiPart<Region> {
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
         super(FXML);
+        weakLabel.setText("Weak");
+        weakLabel.setTextFill(Color.RED);
+
+        // Add event handler to the email label
+        email.setOnMouseClicked(event -> handleEmailClicked());
+    }
+
+    /**
+     * Displays {@code person} with the given index in place of the person displayed before.
+     * The card is updated in place, so a list cell can keep one card for every person it shows.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
-        studentId.setText(person.getStudentId().id);
+        studentId.setText(person.getStudentId().toString());
         name.setText(person.getName().fullName);
         grade.setText(person.getGrade().value);
         email.setText(person.getEmail().value);
 
-        if (person.getGrade() != null && person.isWeak()) {
-            weakLabel.setText("Weak");
-            weakLabel.setTextFill(Color.RED);
-        } else {
-            weakLabel.setVisible(false); // If grade is not below threshold, don't display anything
+        // If grade is not below threshold, don't display anything
+        weakLabel.setVisible(person.getGrade() != null && person.isWeak());
+
+        List<String> groupNames = person.getGroups().stream()
+                .map(group -> group.groupName)
+                .sorted()
+                .collect(Collectors.toList());
+        ObservableList<Node> groupLabels = groups.getChildren();
+        for (int i = 0; i < groupNames.size(); i++) {
+            if (i < groupLabels.size()) {
+                ((Label) groupLabels.get(i)).setText(groupNames.get(i));
+            } else {
+                groupLabels.add(new Label(groupNames.get(i)));
+            }
         }
+        if (groupLabels.size() > groupNames.size()) {
+            groupLabels.remove(groupNames.size(), groupLabels.size());
+        }
+    }
 
-        person.getGroups().stream()
-                .sorted(Comparator.comparing(group -> group.groupName))
-                .forEach(group -> groups.getChildren().add(new Label(group.groupName)));
-
-        // Add event handler to the email label
-        email.setOnMouseClicked(event -> handleEmailClicked());
+    public Person getPerson() {
+        return person;
     }
 
     public void setTestEnvironment(boolean isTestEnvironment) {
@@ -3,26 +3,79 @@ package seedu.teachstack.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String LOADING_MESSAGE = "Loading data...";
+    public static final String BUSY_MESSAGE = "Running command...";
+
+    /** How long a command must run for before the busy indicator is shown, so that quick commands do not flicker. */
+    private static final Duration BUSY_DELAY = Duration.millis(150);
+
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private final PauseTransition busyDelay = new PauseTransition(BUSY_DELAY);
+    private boolean isLoading;
+    private boolean isBusy;
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox progressStatus;
+
+    @FXML
+    private Label progressStatusLabel;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        busyDelay.setOnFinished(unused -> {
+            isBusy = true;
+            updateProgressStatus();
+        });
+        updateProgressStatus();
+    }
+
+    /**
+     * Shows or hides the indicator that the data is still loading.
+     */
+    public void setLoading(boolean isLoading) {
+        this.isLoading = isLoading;
+        updateProgressStatus();
+    }
+
+    /**
+     * Shows or hides the indicator that a command is running. The indicator is only shown once the command has
+     * been running for a short while.
+     */
+    public void setBusy(boolean isBusy) {
+        if (isBusy) {
+            busyDelay.play();
+            return;
+        }
+        busyDelay.stop();
+        this.isBusy = false;
+        updateProgressStatus();
+    }
+
+    private void updateProgressStatus() {
+        boolean isShown = isLoading || isBusy;
+        progressStatus.setVisible(isShown);
+        progressStatus.setManaged(isShown);
+        progressStatusLabel.setText(isLoading ? LOADING_MESSAGE : BUSY_MESSAGE);
     }
 
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Updates the UI once the data has been loaded. */
+    void handleDataLoaded();
+
 }
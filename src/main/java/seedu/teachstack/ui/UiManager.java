@@ -50,6 +50,12 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void handleDataLoaded() {
+        logger.info("Data loaded, updating UI...");
+        mainWindow.handleDataLoaded();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
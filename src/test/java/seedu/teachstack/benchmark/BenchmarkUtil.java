@@ -0,0 +1,97 @@
+package seedu.teachstack.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.person.Email;
+import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.Name;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.StudentId;
+
+/**
+ * Helpers for the benchmarks in this package.
+ * The benchmarks are disabled, so that they do not slow down the tests. Run them with
+ * {@code ./gradlew test -Pbenchmark --tests "seedu.teachstack.benchmark.*"}; each prints its results.
+ */
+final class BenchmarkUtil {
+
+    static final String[] GRADES = {"A+", "A", "A-", "B+", "B", "B-", "C+", "C", "D+", "D", "F"};
+    static final int GROUP_COUNT = 20;
+
+    private static final int WARMUP_RUNS = 3;
+
+    /**
+     * A piece of work to be timed.
+     */
+    @FunctionalInterface
+    interface Task {
+        void run() throws Exception;
+    }
+
+    private BenchmarkUtil() {}
+
+    /**
+     * Returns {@code count} students with distinct student IDs and emails, spread evenly over the grades, over
+     * {@link #GROUP_COUNT} groups and over seven tutorial groups.
+     */
+    static List<Person> generateStudents(int count) {
+        List<Person> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(generateStudent(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the {@code i}-th student of {@link #generateStudents(int)}.
+     */
+    static Person generateStudent(int i) {
+        String number = String.format("%07d", i);
+        return new Person(new Name("Student " + i),
+                new StudentId("A" + number + (char) ('A' + i % 26)),
+                new Email("e" + number + "@u.nus.edu"),
+                Grade.of(GRADES[i % GRADES.length]),
+                Set.of(new Group("Group " + i % GROUP_COUNT), new Group("Tutorial " + i % 7)));
+    }
+
+    /**
+     * Returns the fastest of {@code runs} timed runs of {@code task} in nanoseconds, after a few untimed runs to let
+     * the JIT compile it.
+     */
+    static long bestNanos(int runs, Task task) throws Exception {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            task.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the bytes of heap in use after collecting garbage.
+     */
+    static long usedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // A single request to collect garbage may not collect all of it
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    /**
+     * Prints one line of results.
+     */
+    static void report(String format, Object... args) {
+        System.out.println(String.format(format, args));
+    }
+}
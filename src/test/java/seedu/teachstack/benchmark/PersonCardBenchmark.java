@@ -0,0 +1,49 @@
+package seedu.teachstack.benchmark;
+
+import static seedu.teachstack.benchmark.BenchmarkUtil.bestNanos;
+import static seedu.teachstack.benchmark.BenchmarkUtil.generateStudents;
+import static seedu.teachstack.benchmark.BenchmarkUtil.report;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.ui.PersonCard;
+
+/**
+ * Compares showing a student in a list cell by loading a new {@code PersonCard}, as cells did before they kept their
+ * card, against updating the card the cell already has.
+ * Scrolling a list updates its visible cells with the students that scroll into view, which this repeats.
+ */
+@Disabled("Benchmark, see BenchmarkUtil")
+@ExtendWith(ApplicationExtension.class)
+public class PersonCardBenchmark {
+
+    private static final int STUDENT_COUNT = 1_000;
+    private static final int RUNS = 5;
+
+    @Test
+    public void updateCells() throws Exception {
+        List<Person> students = generateStudents(STUDENT_COUNT);
+
+        long newCardNanos = bestNanos(RUNS, () -> {
+            for (int i = 0; i < students.size(); i++) {
+                new PersonCard(students.get(i), i + 1);
+            }
+        });
+        PersonCard card = new PersonCard();
+        long reusedCardNanos = bestNanos(RUNS, () -> {
+            for (int i = 0; i < students.size(); i++) {
+                card.setPerson(students.get(i), i + 1);
+            }
+        });
+
+        report("Showing %d students in a cell: new card %.1f us/student, reused card %.1f us/student (%.1fx)",
+                STUDENT_COUNT, newCardNanos / 1e3 / STUDENT_COUNT, reusedCardNanos / 1e3 / STUDENT_COUNT,
+                (double) newCardNanos / reusedCardNanos);
+    }
+}
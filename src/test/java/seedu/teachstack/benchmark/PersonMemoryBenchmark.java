@@ -0,0 +1,57 @@
+package seedu.teachstack.benchmark;
+
+import static seedu.teachstack.benchmark.BenchmarkUtil.bestNanos;
+import static seedu.teachstack.benchmark.BenchmarkUtil.generateStudents;
+import static seedu.teachstack.benchmark.BenchmarkUtil.report;
+import static seedu.teachstack.benchmark.BenchmarkUtil.usedHeapBytes;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import seedu.teachstack.model.person.Person;
+
+/**
+ * Measures the heap used per student, and compares the cached hash code of a person against computing it from the
+ * fields with {@code Objects.hash}, as {@code Person} did before it cached it.
+ */
+@Disabled("Benchmark, see BenchmarkUtil")
+public class PersonMemoryBenchmark {
+
+    private static final int[] STUDENT_COUNTS = {10_000, 100_000};
+    private static final int RUNS = 10;
+
+    @Test
+    public void heapPerStudent() {
+        for (int studentCount : STUDENT_COUNTS) {
+            long before = usedHeapBytes();
+            List<Person> students = generateStudents(studentCount);
+            long after = usedHeapBytes();
+            report("%,7d students: %d bytes/student", students.size(), (after - before) / studentCount);
+        }
+    }
+
+    @Test
+    public void hashCodes() throws Exception {
+        List<Person> students = generateStudents(STUDENT_COUNTS[STUDENT_COUNTS.length - 1]);
+        int[] sink = new int[1];
+
+        long fieldsNanos = bestNanos(RUNS, () -> {
+            for (Person student : students) {
+                sink[0] += Objects.hash(student.getName(), student.getStudentId(), student.getEmail(),
+                        student.getGrade(), student.getGroups());
+            }
+        });
+        long cachedNanos = bestNanos(RUNS, () -> {
+            for (Person student : students) {
+                sink[0] += student.hashCode();
+            }
+        });
+
+        report("Hash codes of %d students: Objects.hash %.1f ns/student, cached %.1f ns/student (sum %d)",
+                students.size(), (double) fieldsNanos / students.size(), (double) cachedNanos / students.size(),
+                sink[0]);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.teachstack.benchmark;
+
+import static seedu.teachstack.benchmark.BenchmarkUtil.bestNanos;
+import static seedu.teachstack.benchmark.BenchmarkUtil.generateStudents;
+import static seedu.teachstack.benchmark.BenchmarkUtil.report;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.teachstack.model.AddressBook;
+import seedu.teachstack.storage.AddressBookStorage;
+import seedu.teachstack.storage.BinaryAddressBookStorage;
+import seedu.teachstack.storage.JsonAddressBookStorage;
+
+/**
+ * Compares saving and reading address books in the JSON and binary data file formats.
+ */
+@Disabled("Benchmark, see BenchmarkUtil")
+public class StorageBenchmark {
+
+    private static final int[] STUDENT_COUNTS = {1_000, 10_000, 100_000};
+    private static final int RUNS = 5;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndRead() throws Exception {
+        for (int studentCount : STUDENT_COUNTS) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generateStudents(studentCount));
+
+            measure("JSON", new JsonAddressBookStorage(testFolder.resolve("book.json")), addressBook);
+            measure("binary", new BinaryAddressBookStorage(testFolder.resolve("book.bin")), addressBook);
+        }
+    }
+
+    private static void measure(String format, AddressBookStorage storage, AddressBook addressBook)
+            throws Exception {
+        long saveNanos = bestNanos(RUNS, () -> storage.saveAddressBook(addressBook));
+        long readNanos = bestNanos(RUNS, () -> storage.readAddressBook().get());
+        report("%,7d students, %-6s: save %6.1f ms, read %6.1f ms, file %,11d bytes",
+                addressBook.getPersonList().size(), format, saveNanos / 1e6, readNanos / 1e6,
+                Files.size(storage.getAddressBookFilePath()));
+    }
+}
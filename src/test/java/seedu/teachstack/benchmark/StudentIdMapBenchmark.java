@@ -0,0 +1,68 @@
+package seedu.teachstack.benchmark;
+
+import static seedu.teachstack.benchmark.BenchmarkUtil.bestNanos;
+import static seedu.teachstack.benchmark.BenchmarkUtil.generateStudents;
+import static seedu.teachstack.benchmark.BenchmarkUtil.report;
+import static seedu.teachstack.benchmark.BenchmarkUtil.usedHeapBytes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import seedu.teachstack.commons.collections.IntObjectHashMap;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.StudentId;
+
+/**
+ * Compares a {@code HashMap} keyed by {@code StudentId}, as the id index of {@code UniquePersonList} was, against an
+ * {@code IntObjectHashMap} keyed by packed student ids, in heap use and in lookups in random order.
+ */
+@Disabled("Benchmark, see BenchmarkUtil")
+public class StudentIdMapBenchmark {
+
+    private static final int STUDENT_COUNT = 100_000;
+    private static final int RUNS = 10;
+
+    @Test
+    public void indexStudents() throws Exception {
+        List<Person> students = generateStudents(STUDENT_COUNT);
+        List<StudentId> lookups = new ArrayList<>(STUDENT_COUNT);
+        students.forEach(student -> lookups.add(student.getStudentId()));
+        Collections.shuffle(lookups, new Random(0));
+        Object[] sink = new Object[1];
+
+        long before = usedHeapBytes();
+        Map<StudentId, Person> hashMap = new HashMap<>();
+        students.forEach(student -> hashMap.put(student.getStudentId(), student));
+        long hashMapBytes = usedHeapBytes() - before;
+
+        before = usedHeapBytes();
+        IntObjectHashMap<Person> intMap = new IntObjectHashMap<>();
+        students.forEach(student -> intMap.put(student.getStudentId().getPackedValue(), student));
+        long intMapBytes = usedHeapBytes() - before;
+
+        long hashMapNanos = bestNanos(RUNS, () -> {
+            for (StudentId studentId : lookups) {
+                sink[0] = hashMap.get(studentId);
+            }
+        });
+        long intMapNanos = bestNanos(RUNS, () -> {
+            for (StudentId studentId : lookups) {
+                sink[0] = intMap.get(studentId.getPackedValue());
+            }
+        });
+
+        report("HashMap:          %.1f bytes/student, %.1f M lookups/s",
+                (double) hashMapBytes / STUDENT_COUNT, STUDENT_COUNT * 1e3 / hashMapNanos);
+        report("IntObjectHashMap: %.1f bytes/student, %.1f M lookups/s",
+                (double) intMapBytes / STUDENT_COUNT, STUDENT_COUNT * 1e3 / intMapNanos);
+        // Keeps both maps reachable until they have been measured
+        report("Map sizes: %d and %d", hashMap.size(), intMap.size());
+    }
+}
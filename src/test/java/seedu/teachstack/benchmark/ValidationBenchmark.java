@@ -0,0 +1,63 @@
+package seedu.teachstack.benchmark;
+
+import static seedu.teachstack.benchmark.BenchmarkUtil.bestNanos;
+import static seedu.teachstack.benchmark.BenchmarkUtil.generateStudents;
+import static seedu.teachstack.benchmark.BenchmarkUtil.report;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.person.Email;
+import seedu.teachstack.model.person.Name;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.StudentId;
+
+/**
+ * Compares validating the fields of each student with {@code String.matches}, which compiles its regex on every
+ * call, against the {@code isValidX} methods of the model.
+ */
+@Disabled("Benchmark, see BenchmarkUtil")
+public class ValidationBenchmark {
+
+    private static final int STUDENT_COUNT = 100_000;
+    private static final int RUNS = 10;
+
+    @Test
+    public void validateStudents() throws Exception {
+        List<Person> students = generateStudents(STUDENT_COUNT);
+        String[][] fields = students.stream()
+                .map(student -> new String[] {student.getName().fullName, student.getStudentId().toString(),
+                    student.getEmail().value, student.getGroups().iterator().next().groupName})
+                .toArray(String[][]::new);
+
+        long matchesNanos = bestNanos(RUNS, () -> {
+            for (String[] field : fields) {
+                check(field[0].matches(Name.VALIDATION_REGEX)
+                        && field[1].matches(StudentId.VALIDATION_REGEX)
+                        && field[2].matches(Email.VALIDATION_REGEX)
+                        && field[3].matches(Group.VALIDATION_REGEX));
+            }
+        });
+        long isValidNanos = bestNanos(RUNS, () -> {
+            for (String[] field : fields) {
+                check(Name.isValidName(field[0])
+                        && StudentId.isValidStudentId(field[1])
+                        && Email.isValidEmail(field[2])
+                        && Group.isValidGroupName(field[3]));
+            }
+        });
+
+        report("Validating %d students: String.matches %.1f ns/student, isValidX %.1f ns/student (%.1fx)",
+                STUDENT_COUNT, (double) matchesNanos / STUDENT_COUNT, (double) isValidNanos / STUDENT_COUNT,
+                (double) matchesNanos / isValidNanos);
+    }
+
+    private static void check(boolean isValid) {
+        if (!isValid) {
+            throw new AssertionError("Generated student is invalid");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.teachstack.commons.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IntHashSetTest {
+
+    private final IntHashSet set = new IntHashSet();
+
+    @Test
+    public void add_zeroAndOtherElements_addedOnce() {
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        assertTrue(set.add(-5));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-5));
+        assertFalse(set.contains(6));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(5));
+    }
+
+    @Test
+    public void randomElements_sameAsHashSet() {
+        Random random = new Random(0);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(5000) << random.nextInt(20);
+            assertEquals(expected.contains(element), set.contains(element));
+            assertEquals(expected.add(element), set.add(element));
+            assertEquals(expected.size(), set.size());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.teachstack.commons.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntIntHashMapTest {
+
+    private static final int MISSING = -1;
+
+    private final IntIntHashMap map = new IntIntHashMap(MISSING);
+
+    @Test
+    public void put_zeroAndOtherKeys_returnsReplacedValue() {
+        assertEquals(MISSING, map.put(0, 10));
+        assertEquals(MISSING, map.put(7, 70));
+        assertEquals(10, map.put(0, 11));
+        assertEquals(70, map.put(7, 71));
+
+        assertEquals(2, map.size());
+        assertEquals(11, map.get(0));
+        assertEquals(71, map.get(7));
+        assertEquals(MISSING, map.get(8));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(8));
+
+        assertEquals(11, map.remove(0));
+        assertEquals(MISSING, map.remove(0));
+        assertFalse(map.containsKey(0));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(MISSING, map.get(7));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Random random = new Random(0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            // Keys that differ by multiples of a large power of two collide in small tables
+            int key = (random.nextInt(200) - 100) << random.nextInt(3) * 8;
+            int expectedValue = expected.getOrDefault(key, MISSING);
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                assertEquals(expectedValue, map.remove(key));
+                expected.remove(key);
+            } else if (operation == 1) {
+                assertEquals(expectedValue, map.get(key));
+            } else {
+                assertEquals(expectedValue, map.put(key, i));
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.teachstack.commons.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntObjectHashMapTest {
+
+    private final IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+    @Test
+    public void put_newAndExistingKeys_returnsReplacedValue() {
+        assertNull(map.put(1, "one"));
+        assertNull(map.put(-1, "minus one"));
+        assertNull(map.put(0, "zero"));
+        assertEquals("one", map.put(1, "uno"));
+
+        assertEquals(3, map.size());
+        assertEquals("uno", map.get(1));
+        assertEquals("minus one", map.get(-1));
+        assertEquals("zero", map.get(0));
+        assertNull(map.get(2));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void remove_keyAndValue_onlyRemovedIfValueEqual() {
+        map.put(1, "one");
+        assertFalse(map.remove(1, "uno"));
+        assertFalse(map.remove(2, "one"));
+        assertEquals("one", map.get(1));
+
+        assertTrue(map.remove(1, "one"));
+        assertTrue(map.isEmpty());
+        assertNull(map.remove(1));
+    }
+
+    @Test
+    public void remove_collidingKeys_otherKeysStillFound() {
+        // Keys that differ only by multiples of the capacity pick nearby slots and form one long run
+        for (int i = 0; i < 100; i++) {
+            map.put(i << 16, String.valueOf(i));
+        }
+        for (int i = 0; i < 100; i += 3) {
+            assertEquals(String.valueOf(i), map.remove(i << 16));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 3 == 0 ? null : String.valueOf(i), map.get(i << 16));
+        }
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Random random = new Random(0);
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2000) - 1000;
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (operation == 1) {
+                assertEquals(expected.get(key), map.get(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        List<String> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertEquals(expected.size(), values.size());
+        assertTrue(expected.values().containsAll(values));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        for (int key : expected.keySet()) {
+            assertFalse(map.containsKey(key));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.teachstack.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void matching() {
+        Predicate<String> validator = ValidationUtil.matching("[a-c]+");
+
+        // null -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> validator.test(null));
+
+        // partial match -> returns false
+        assertFalse(validator.test(""));
+        assertFalse(validator.test("abcd"));
+        assertFalse(validator.test(" abc"));
+
+        // full match -> returns true
+        assertTrue(validator.test("a"));
+        assertTrue(validator.test("cab"));
+    }
+
+    @Test
+    public void isPrefixedDigitsAndLetter() {
+        // null -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isPrefixedDigitsAndLetter(null, 'A', 7));
+
+        // EP: wrong length
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("", 'A', 7)); // Boundary value
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A012345X", 'A', 7));
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A01234567X", 'A', 7));
+
+        // EP: wrong prefix
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("B0123456X", 'A', 7));
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("a0123456X", 'A', 7));
+
+        // EP: non-digit in the middle
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A01234/6X", 'A', 7));
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A01234:6X", 'A', 7));
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A012 456X", 'A', 7));
+
+        // EP: invalid suffix
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A0123456x", 'A', 7));
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A01234567", 'A', 7));
+        assertFalse(ValidationUtil.isPrefixedDigitsAndLetter("A0123456[", 'A', 7));
+
+        // EP: valid
+        assertTrue(ValidationUtil.isPrefixedDigitsAndLetter("A0123456X", 'A', 7));
+        assertTrue(ValidationUtil.isPrefixedDigitsAndLetter("A9999999A", 'A', 7));
+        assertTrue(ValidationUtil.isPrefixedDigitsAndLetter("A0000000Z", 'A', 7));
+        assertTrue(ValidationUtil.isPrefixedDigitsAndLetter("E1Q", 'E', 1));
+    }
+}
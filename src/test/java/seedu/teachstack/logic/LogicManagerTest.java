@@ -1,6 +1,9 @@
 package seedu.teachstack.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.logic.Messages.MESSAGE_DATA_NOT_LOADED;
 import static seedu.teachstack.logic.Messages.MESSAGE_INVALID_DISPLAYED_STUDENT_ID;
 import static seedu.teachstack.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.teachstack.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -13,16 +16,28 @@ import static seedu.teachstack.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.teachstack.logic.commands.AddCommand;
 import seedu.teachstack.logic.commands.CommandResult;
+import seedu.teachstack.logic.commands.HelpCommand;
 import seedu.teachstack.logic.commands.ListCommand;
 import seedu.teachstack.logic.commands.exceptions.CommandException;
 import seedu.teachstack.logic.parser.exceptions.ParseException;
+import seedu.teachstack.model.ArchivedBook;
 import seedu.teachstack.model.Model;
 import seedu.teachstack.model.ModelManager;
 import seedu.teachstack.model.ReadOnlyAddressBook;
@@ -59,6 +74,12 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() {
+        // Finish saving before the temporary folder is deleted
+        logic.flush();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -78,17 +99,154 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_storageThrowsRuntimeException_reportsSaveError() throws Exception {
+        RuntimeException runtimeException = new IllegalStateException("dummy runtime exception");
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        throw runtimeException;
+                    }
+                },
+                new JsonArchivedBookStorage(temporaryFolder.resolve("archivedBook.json")),
+                new JsonUserDataStorage(temporaryFolder.resolve("userData.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        List<String> saveErrors = new ArrayList<>();
+        logic.setSaveErrorHandler(saveErrors::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENTID_DESC_AMY + EMAIL_DESC_AMY + GRADE_DESC_AMY);
+        logic.flush();
+
+        assertEquals(Collections.singletonList(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, runtimeException)),
+                saveErrors);
+        // The archived book is still saved after the address book fails to be saved
+        assertTrue(storage.readArchivedBook().isPresent());
+    }
+
+    @Test
+    public void execute_multipleCommandsBeforeSave_savesOnce() throws Exception {
+        AtomicInteger addressBookSaveCount = new AtomicInteger();
+        AtomicInteger archivedBookSaveCount = new AtomicInteger();
+        StorageManager storage = getCountingStorage(addressBookSaveCount, archivedBookSaveCount);
+
+        // A delay long enough that only flush() can trigger the save
+        logic = new LogicManager(model, storage, TimeUnit.HOURS.toMillis(1));
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENTID_DESC_AMY + EMAIL_DESC_AMY + GRADE_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, addressBookSaveCount.get());
+
+        logic.flush();
+        assertEquals(1, addressBookSaveCount.get());
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_unchangedData_notSavedAgain() throws Exception {
+        AtomicInteger addressBookSaveCount = new AtomicInteger();
+        AtomicInteger archivedBookSaveCount = new AtomicInteger();
+        StorageManager storage = getCountingStorage(addressBookSaveCount, archivedBookSaveCount);
+        logic = new LogicManager(model, storage, TimeUnit.HOURS.toMillis(1));
+
+        // The first command saves everything
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(1, addressBookSaveCount.get());
+        assertEquals(1, archivedBookSaveCount.get());
+
+        // A command that does not change anything saves nothing
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(1, addressBookSaveCount.get());
+        assertEquals(1, archivedBookSaveCount.get());
+
+        // A command that changes only the address book saves only the address book
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENTID_DESC_AMY + EMAIL_DESC_AMY + GRADE_DESC_AMY);
+        logic.flush();
+        assertEquals(2, addressBookSaveCount.get());
+        assertEquals(1, archivedBookSaveCount.get());
+    }
+
+    @Test
+    public void execute_dataNotLoaded_onlyCommandsWithoutDataExecutedAndNothingSaved() throws Exception {
+        AtomicInteger addressBookSaveCount = new AtomicInteger();
+        AtomicInteger archivedBookSaveCount = new AtomicInteger();
+        StorageManager storage = getCountingStorage(addressBookSaveCount, archivedBookSaveCount);
+        model = new ModelManager(new UserPrefs());
+        logic = new LogicManager(model, storage, TimeUnit.HOURS.toMillis(1));
+
+        assertFalse(logic.canExecute(ListCommand.COMMAND_WORD));
+        assertTrue(logic.canExecute(HelpCommand.COMMAND_WORD));
+        assertThrows(ParseException.class, () -> logic.canExecute("uicfhmowqewca"));
+        assertCommandException(ListCommand.COMMAND_WORD, MESSAGE_DATA_NOT_LOADED);
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+        logic.flush();
+        assertEquals(0, addressBookSaveCount.get());
+        assertEquals(0, archivedBookSaveCount.get());
+
+        model.finishLoading(new ArchivedBook());
+        assertTrue(logic.canExecute(ListCommand.COMMAND_WORD));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        logic.flush();
+        assertEquals(1, addressBookSaveCount.get());
+        assertEquals(1, archivedBookSaveCount.get());
+    }
+
+    @Test
+    public void executeInBackground_commands_executedInOrderAndPublishedByPublisher() throws Exception {
+        ExecutorService publisher = Executors.newSingleThreadExecutor();
+        try {
+            Thread publisherThread = publisher.submit(Thread::currentThread).get();
+            List<Thread> changeThreads = Collections.synchronizedList(new ArrayList<>());
+            logic.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                    changeThreads.add(Thread.currentThread()));
+
+            String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENTID_DESC_AMY + EMAIL_DESC_AMY
+                    + GRADE_DESC_AMY;
+            CompletableFuture<CommandResult> addResult = logic.executeInBackground(addCommand, publisher);
+            CompletableFuture<CommandResult> duplicateAddResult = logic.executeInBackground(addCommand, publisher);
+
+            Person expectedPerson = new PersonBuilder(AMY).withGroups().build();
+            assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                    addResult.get(10, TimeUnit.SECONDS).getFeedbackToUser());
+            Throwable error = duplicateAddResult.handle((result, e) -> e).get(10, TimeUnit.SECONDS);
+            assertTrue(error instanceof CommandException);
+            assertEquals(Collections.singletonList(publisherThread), changeThreads);
+            assertEquals(Collections.singletonList(expectedPerson), model.getFilteredPersonList());
+        } finally {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    public void executeInBackground_errorThrown_futureCompletedExceptionally() throws Exception {
+        Error dummyError = new AssertionError("dummy error");
+        model = new ModelManager() {
+            @Override
+            public boolean isDataLoaded() {
+                throw dummyError;
+            }
+        };
+        logic = new LogicManager(model, getCountingStorage(new AtomicInteger(), new AtomicInteger()));
+
+        CompletableFuture<CommandResult> result = logic.executeInBackground(ListCommand.COMMAND_WORD, Runnable::run);
+
+        assertEquals(dummyError, result.handle((unused, e) -> e).get(10, TimeUnit.SECONDS));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -152,13 +310,41 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns a {@code StorageManager} in the temporary folder that counts the address book and archived book saves.
+     */
+    private StorageManager getCountingStorage(AtomicInteger addressBookSaveCount,
+            AtomicInteger archivedBookSaveCount) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        addressBookSaveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonArchivedBookStorage archivedBookStorage =
+                new JsonArchivedBookStorage(temporaryFolder.resolve("archivedBook.json")) {
+                    @Override
+                    public void saveArchivedBook(ReadOnlyArchivedBook archivedBook, Path filePath)
+                            throws IOException {
+                        archivedBookSaveCount.incrementAndGet();
+                        super.saveArchivedBook(archivedBook, filePath);
+                    }
+                };
+        return new StorageManager(addressBookStorage, archivedBookStorage,
+                new JsonUserDataStorage(temporaryFolder.resolve("userData.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be given to the save error handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveErrorForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -188,6 +374,8 @@ public class LogicManagerTest {
                 archivedBookStorage, userDataStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> saveErrors = new ArrayList<>();
+        logic.setSaveErrorHandler(saveErrors::add);
 
         // Triggers the saveAddressBook method by executing an add command
 
@@ -198,6 +386,11 @@ public class LogicManagerTest {
 
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+
+        logic.flush();
+        // The archived book is saved even though the address book failed to be saved, and fails as well
+        assertEquals(List.of(expectedMessage, expectedMessage), saveErrors);
     }
 }
@@ -11,6 +11,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,9 @@ import seedu.teachstack.model.Model;
 import seedu.teachstack.model.ReadOnlyAddressBook;
 import seedu.teachstack.model.ReadOnlyArchivedBook;
 import seedu.teachstack.model.ReadOnlyUserPrefs;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.GradeDistribution;
 import seedu.teachstack.model.person.Person;
 import seedu.teachstack.model.person.StudentId;
 import seedu.teachstack.testutil.PersonBuilder;
@@ -161,6 +166,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isDataLoaded() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLoadedPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void finishLoading(ReadOnlyArchivedBook archivedBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -215,6 +235,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commit() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollback() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGroups(Map<StudentId, Set<Group>> groupChanges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setWeakThreshold(Grade threshold) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GradeDistribution getFilteredGradeDistribution() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getFilteredPersonCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person getArchivedPerson(StudentId id) {
             throw new AssertionError("This method should not be called.");
@@ -93,6 +93,16 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_noFieldSpecified_personStillFound() throws Exception {
+        Person person = model.getPerson(ID_FIRST_PERSON);
+        new EditCommand(ID_FIRST_PERSON, new EditPersonDescriptor()).execute(model);
+
+        // The edited person equals the one it replaces, and must not drop out of the lookups
+        assertEquals(person, model.getPerson(ID_FIRST_PERSON));
+        assertTrue(model.hasPerson(person));
+    }
+
     @Test
     public void execute_filteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -1,5 +1,7 @@
 package seedu.teachstack.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.teachstack.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.teachstack.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.teachstack.model.util.SampleDataUtil.getGroupSet;
@@ -70,6 +72,18 @@ public class GroupCommandTest {
         assertCommandSuccess(groupCommand, model, expectedMessage, expectedModel);
     }
 
+    /**
+     * Checks that putting Alice in a group she is already in leaves her in the model's lookups.
+     */
+    @Test
+    public void execute_groupAlreadyAssigned_personStillFound() throws Exception {
+        Person alice = TypicalPersons.ALICE;
+        new GroupCommand(alice.getGroups(), getStudentIdSetFromStudentIds(alice.getStudentId())).execute(model);
+
+        assertEquals(alice, model.getPerson(alice.getStudentId()));
+        assertTrue(model.hasPerson(alice));
+    }
+
     /**
      * Checks that trying to modify the student ID of someone not in the list fails.
      */
@@ -85,6 +99,35 @@ public class GroupCommandTest {
         assertCommandFailure(groupCommand, model, GroupCommand.STUDENTS_NOT_FOUND + "A9999999Z ");
     }
 
+    /**
+     * Checks that several students are put in a group together, keeping their previous groups.
+     */
+    @Test
+    public void execute_multipleStudents_success() {
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).withGroups("Group 1", "Group 99").build();
+        Person editedCarl = new PersonBuilder(TypicalPersons.CARL).withGroups("Group 99").build();
+        GroupCommand groupCommand = new GroupCommand(getGroupSet("Group 99"),
+                getStudentIdSetFromStudentIds(editedAlice.getStudentId(), editedCarl.getStudentId()));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()),
+                new ArchivedBook(model.getArchivedBook()), new UserPrefs());
+        expectedModel.setPerson(model.getPerson(editedAlice.getStudentId()), editedAlice);
+        expectedModel.setPerson(model.getPerson(editedCarl.getStudentId()), editedCarl);
+
+        assertCommandSuccess(groupCommand, model, GroupCommand.MESSAGE_GROUP_SUCCESS, expectedModel);
+    }
+
+    /**
+     * Checks that no student is changed if any of them is not found.
+     */
+    @Test
+    public void execute_someStudentsNotFound_noStudentChanged() {
+        GroupCommand groupCommand = new GroupCommand(getGroupSet("Group 99"),
+                getStudentIdSetFromStudentIds(TypicalPersons.ALICE.getStudentId(), new StudentId("A9999999Z")));
+
+        assertCommandFailure(groupCommand, model, GroupCommand.STUDENTS_NOT_FOUND + "A9999999Z ");
+    }
+
     /**
      * Adds a student to a group 99. Then, adds that student to another group 100.
      * The student should be in both groups in the end.
@@ -23,14 +23,14 @@ public class SetWeakThresholdCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), getTypicalArchivedBook(), new UserPrefs());
     @Test
     public void set_threshold_commandSuccess() {
-        Grade testGrade = new Grade("D+");
+        Grade testGrade = Grade.of("D+");
         SetWeakThresholdCommand weakCommand = new SetWeakThresholdCommand(testGrade);
         assertTrue(weakCommand.retrieveGrade() == testGrade);
     }
 
     @Test
     public void execute_threshold_commandSuccess() throws CommandException {
-        Grade testGrade = new Grade("B");
+        Grade testGrade = Grade.of("B");
         SetWeakThresholdCommand testCommand = new SetWeakThresholdCommand(testGrade);
         Person editedPerson = new PersonBuilder().withStudentId("A0128956X").withGrade("B-").build();
 
@@ -107,14 +107,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseGrade_validValueWithoutWhitespace_returnsGrade() throws Exception {
-        Grade expectedGrade = new Grade(VALID_GRADE);
+        Grade expectedGrade = Grade.of(VALID_GRADE);
         assertEquals(expectedGrade, ParserUtil.parseGrade(VALID_GRADE));
     }
 
     @Test
     public void parseGrade_validValueWithWhitespace_returnsTrimmedGrade() throws Exception {
         String gradeWithWhitespace = WHITESPACE + VALID_GRADE + WHITESPACE;
-        Grade expectedGrade = new Grade(VALID_GRADE);
+        Grade expectedGrade = Grade.of(VALID_GRADE);
         assertEquals(expectedGrade, ParserUtil.parseGrade(gradeWithWhitespace));
     }
 
@@ -15,7 +15,7 @@ public class SetWeakThresholdCommandParserTest {
     @Test
     public void parse_setweakCommand() throws ParseException {
         String args = " g/B";
-        SetWeakThresholdCommand expectedCommand = new SetWeakThresholdCommand(new Grade("B"));
+        SetWeakThresholdCommand expectedCommand = new SetWeakThresholdCommand(Grade.of("B"));
         assertEquals(expectedCommand, weakParser.parse(args));
     }
 
@@ -23,7 +23,7 @@ public class SetWeakThresholdCommandParserTest {
     public void parse_inputWithLeadingTrailingSpaces_success() throws ParseException {
         // Input with leading/trailing spaces
         String args = "   g/C+   ";
-        SetWeakThresholdCommand expectedCommand = new SetWeakThresholdCommand(new Grade("C+"));
+        SetWeakThresholdCommand expectedCommand = new SetWeakThresholdCommand(Grade.of("C+"));
         assertEquals(expectedCommand, weakParser.parse(args));
     }
 
@@ -100,6 +100,16 @@ public class ArchivedBookTest {
         public ObservableList<Person> getArchivedList() {
             return persons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public boolean isWriteThrough() {
+            return false;
+        }
     }
 
 }
@@ -0,0 +1,166 @@
+package seedu.teachstack.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+public class DiffingFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = i -> i % 2 == 0;
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = i -> i % 3 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList();
+    private DiffingFilteredList<Integer> filteredList;
+
+    // The filtered list as rebuilt from the changes it fired
+    private List<Integer> mirror;
+    private int changedRowCount;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 12; i++) {
+            source.add(i);
+        }
+        filteredList = new DiffingFilteredList<>(source);
+        mirror = new ArrayList<>(filteredList);
+        filteredList.addListener(this::apply);
+    }
+
+    @Test
+    public void setPredicate_differentPredicates_onlyChangedRowsFired() {
+        filteredList.setPredicate(IS_EVEN);
+        assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10), filteredList);
+        assertEquals(6, changedRowCount);
+
+        changedRowCount = 0;
+        filteredList.setPredicate(IS_MULTIPLE_OF_THREE);
+        assertEquals(Arrays.asList(0, 3, 6, 9), filteredList);
+        // 2, 4, 8 and 10 are hidden, and 3 and 9 are shown
+        assertEquals(6, changedRowCount);
+
+        changedRowCount = 0;
+        filteredList.setPredicate(null);
+        assertEquals(source, filteredList);
+        assertEquals(8, changedRowCount);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void setPredicate_samePredicate_nothingFired() {
+        filteredList.setPredicate(IS_EVEN);
+        changedRowCount = 0;
+        filteredList.setPredicate(IS_EVEN);
+        assertEquals(0, changedRowCount);
+
+        filteredList.setPredicate(null);
+        changedRowCount = 0;
+        filteredList.setPredicate(null);
+        assertEquals(0, changedRowCount);
+    }
+
+    @Test
+    public void sourceChanged_replaceShownElement_onlyThatRowFired() {
+        filteredList.setPredicate(IS_EVEN);
+        changedRowCount = 0;
+
+        source.set(4, 40);
+        assertEquals(Arrays.asList(0, 2, 40, 6, 8, 10), filteredList);
+        assertEquals(1, changedRowCount);
+
+        // A replacement that no longer passes the predicate is hidden
+        source.set(4, 41);
+        assertEquals(Arrays.asList(0, 2, 6, 8, 10), filteredList);
+        assertEquals(2, changedRowCount);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_addAndRemove_viewAndIndexesUpdated() {
+        filteredList.setPredicate(IS_EVEN);
+        changedRowCount = 0;
+
+        // Hidden elements fire nothing
+        source.add(0, 1);
+        source.remove(Integer.valueOf(5));
+        assertEquals(0, changedRowCount);
+
+        source.add(4, 100);
+        source.remove(Integer.valueOf(8));
+        assertEquals(Arrays.asList(0, 2, 100, 4, 6, 10), filteredList);
+        assertEquals(2, changedRowCount);
+        assertEquals(filteredList, mirror);
+        for (int i = 0; i < filteredList.size(); i++) {
+            assertEquals(filteredList.get(i), source.get(filteredList.getSourceIndex(i)));
+            assertEquals(i, filteredList.getViewIndex(filteredList.getSourceIndex(i)));
+        }
+        assertEquals(-1, filteredList.getViewIndex(0));
+
+        source.setAll(Arrays.asList(3, 4, 5, 6));
+        assertEquals(Arrays.asList(4, 6), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_sort_shownRowsPermuted() {
+        filteredList.setPredicate(IS_EVEN);
+        FXCollections.sort(source, Collections.reverseOrder());
+        assertEquals(Arrays.asList(10, 8, 6, 4, 2, 0), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void refresh_sourceRange_onlyShownRowsInRangeUpdated() {
+        filteredList.setPredicate(IS_EVEN);
+        changedRowCount = 0;
+
+        filteredList.refresh(3, 9);
+        // 4, 6 and 8 are shown between positions 3 and 9 of the source list
+        assertEquals(3, changedRowCount);
+        assertEquals(filteredList, mirror);
+
+        changedRowCount = 0;
+        filteredList.refresh(5, 6);
+        assertEquals(0, changedRowCount);
+    }
+
+    @Test
+    public void getPredicate() {
+        assertEquals(null, filteredList.getPredicate());
+        filteredList.setPredicate(IS_EVEN);
+        assertEquals(IS_EVEN, filteredList.getPredicate());
+        assertTrue(filteredList.contains(2));
+        assertFalse(filteredList.contains(3));
+    }
+
+    /**
+     * Applies {@code change} to {@link #mirror}, counting the rows it adds, removes or replaces.
+     */
+    private void apply(Change<? extends Integer> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror = permuted;
+            } else if (!change.wasUpdated()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+                changedRowCount += Math.max(change.getRemovedSize(), change.getAddedSize());
+            }
+        }
+    }
+}
@@ -3,23 +3,35 @@ package seedu.teachstack.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.teachstack.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.teachstack.model.util.SampleDataUtil.getGroupSet;
 import static seedu.teachstack.testutil.Assert.assertThrows;
 import static seedu.teachstack.testutil.TypicalPersons.ALICE;
 import static seedu.teachstack.testutil.TypicalPersons.BENSON;
+import static seedu.teachstack.testutil.TypicalPersons.CARL;
 import static seedu.teachstack.testutil.TypicalPersons.GEORGE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.transformation.FilteredList;
 import seedu.teachstack.commons.core.GuiSettings;
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.person.Grade;
+import seedu.teachstack.model.person.GradeDistribution;
+import seedu.teachstack.model.person.Person;
 import seedu.teachstack.model.person.PersonInGroupPredicate;
+import seedu.teachstack.model.person.exceptions.DuplicatePersonException;
+import seedu.teachstack.model.person.exceptions.PersonNotFoundException;
 import seedu.teachstack.testutil.AddressBookBuilder;
 import seedu.teachstack.testutil.ArchivedBookBuilder;
+import seedu.teachstack.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -33,6 +45,24 @@ public class ModelManagerTest {
         assertEquals(new ArchivedBook(), new ArchivedBook(modelManager.getArchivedBook()));
     }
 
+    @Test
+    public void constructor_dataToBeLoaded_loadsPersonsInBatches() {
+        ModelManager loadingModelManager = new ModelManager(new UserPrefs());
+        assertFalse(loadingModelManager.isDataLoaded());
+        assertTrue(modelManager.isDataLoaded());
+
+        loadingModelManager.addLoadedPersons(Arrays.asList(CARL, BENSON));
+        assertEquals(Arrays.asList(CARL, BENSON), loadingModelManager.getFilteredPersonList());
+        assertThrows(DuplicatePersonException.class, () -> loadingModelManager.addLoadedPersons(Arrays.asList(CARL)));
+        loadingModelManager.addLoadedPersons(Arrays.asList(ALICE));
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), loadingModelManager.getFilteredPersonList());
+        assertTrue(loadingModelManager.getFilteredArchivedList().isEmpty());
+
+        loadingModelManager.finishLoading(new ArchivedBookBuilder().withPerson(GEORGE).build());
+        assertTrue(loadingModelManager.isDataLoaded());
+        assertEquals(Arrays.asList(GEORGE), loadingModelManager.getFilteredArchivedList());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -124,6 +154,137 @@ public class ModelManagerTest {
         assertEquals(modelManager.getAddressBook().getPersonList().get(0), modelManager.getWeak().get(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_groupPredicate_showsMembersOfAllGroups() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new PersonInGroupPredicate(
+                Set.of(new Group("Group 1"), new Group("Group 2B"))));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_groupPredicateThenSetPerson_filterKeptUpToDate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new PersonInGroupPredicate(Set.of(new Group("Group 1"))));
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withGroups("Group 1").build();
+        modelManager.setPerson(CARL, editedCarl);
+        Person editedBenson = new PersonBuilder(BENSON).withGroups("Group 2B").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedCarl, ALICE), modelManager.getFilteredPersonList());
+
+        // Filtering by an equal predicate leaves the list as it is
+        modelManager.updateFilteredPersonList(new PersonInGroupPredicate(Set.of(new Group("Group 1"))));
+        assertEquals(Arrays.asList(editedCarl, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_groupPredicate_rowsTestedAndCountedFromColumns() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        PersonInGroupPredicate predicate = new PersonInGroupPredicate(Set.of(new Group("Group 1")));
+        modelManager.updateFilteredPersonList(predicate);
+
+        // The list tests each person against the predicate itself, while the counts come from the columns
+        assertSame(predicate, ((DiffingFilteredList<Person>) modelManager.getFilteredPersonList()).getPredicate());
+        assertEquals(GradeDistribution.of(Arrays.asList(BENSON, ALICE)), modelManager.getFilteredGradeDistribution());
+        assertEquals(2, modelManager.getFilteredPersonCount());
+    }
+
+    @Test
+    public void rollback_archiveFailsPartWay_bothBooksUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginBatch();
+        modelManager.archivePerson(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> modelManager.archivePerson(BENSON));
+        modelManager.rollback();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredArchivedList().isEmpty());
+        assertFalse(modelManager.hasArchivedPerson(BENSON));
+    }
+
+    @Test
+    public void commit_unarchive_changesShownTogether() {
+        modelManager.addPerson(ALICE);
+        modelManager.archivePerson(ALICE);
+        modelManager.beginBatch();
+        modelManager.unarchivePerson(ALICE);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        modelManager.commit();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredArchivedList().isEmpty());
+    }
+
+    @Test
+    public void commit_filterSetInBatch_shownWhenCommitted() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.beginBatch();
+        modelManager.updateFilteredPersonList(new PersonInGroupPredicate(Set.of(new Group("Group 1"))));
+        modelManager.archivePerson(CARL);
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredArchivedList().isEmpty());
+        assertEquals(1, modelManager.getFilteredPersonCount());
+        modelManager.commit();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredArchivedList());
+    }
+
+    @Test
+    public void commit_equalArchivedFilterSetInBatch_archivedListNotRefiltered() {
+        modelManager.addPerson(ALICE);
+        modelManager.archivePerson(ALICE);
+        PersonInGroupPredicate predicate = new PersonInGroupPredicate(Set.of(new Group("Group 1")));
+        modelManager.updateFilteredArchivedList(predicate);
+
+        modelManager.beginBatch();
+        modelManager.updateFilteredArchivedList(new PersonInGroupPredicate(Set.of(new Group("Group 1"))));
+        modelManager.commit();
+
+        // Refiltering would have set the equal predicate from the batch on the list
+        assertSame(predicate, ((FilteredList<Person>) modelManager.getFilteredArchivedList()).getPredicate());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredArchivedList());
+    }
+
+    @Test
+    public void rollback_filterSetInBatch_filterUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new PersonInGroupPredicate(Set.of(new Group("Group 1"))));
+        modelManager.beginBatch();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(2, modelManager.getFilteredPersonCount());
+        modelManager.rollback();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.getFilteredPersonCount());
+    }
+
+    @Test
+    public void setWeakThreshold_higherThreshold_morePersonsWeak() {
+        Grade originalThreshold = Grade.retrieveThreshold();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(GEORGE);
+        try {
+            modelManager.setWeakThreshold(Grade.of("A-"));
+            assertEquals(Grade.of("A-"), Grade.retrieveThreshold());
+            assertEquals(Arrays.asList(GEORGE, CARL), modelManager.getWeak());
+            assertEquals(Arrays.asList(GEORGE, CARL, ALICE), modelManager.getFilteredPersonList());
+        } finally {
+            Grade.modifyThreshold(originalThreshold);
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
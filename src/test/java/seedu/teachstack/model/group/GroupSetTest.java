@@ -0,0 +1,97 @@
+package seedu.teachstack.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class GroupSetTest {
+
+    private static final Group GROUP_ONE = Group.of("Group 1");
+    private static final Group GROUP_TWO = Group.of("Group 2");
+    private static final Group GROUP_THREE = Group.of("Group 3");
+
+    @Test
+    public void of_groups_sameElementsAsHashSet() {
+        // Enough groups that their ids span more than one word of bits
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < 100; i += 3) {
+            groups.add(Group.of("GroupSetTest " + i));
+        }
+        groups.add(GROUP_ONE);
+        Set<Group> expected = new HashSet<>(groups);
+        GroupSet groupSet = GroupSet.of(groups);
+
+        assertEquals(expected.size(), groupSet.size());
+        assertEquals(expected, new HashSet<>(groupSet));
+        assertEquals(expected, groupSet);
+        assertEquals(groupSet, expected);
+        assertEquals(expected.hashCode(), groupSet.hashCode());
+        assertSame(groupSet, GroupSet.of(groupSet));
+    }
+
+    @Test
+    public void of_noGroups_empty() {
+        assertSame(GroupSet.empty(), GroupSet.of(new HashSet<>()));
+        assertTrue(GroupSet.empty().isEmpty());
+        assertFalse(GroupSet.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void contains() {
+        GroupSet groupSet = GroupSet.of(Set.of(GROUP_ONE, GROUP_TWO));
+        assertTrue(groupSet.contains(GROUP_ONE));
+        assertTrue(groupSet.contains(new Group("Group 2")));
+        assertFalse(groupSet.contains(GROUP_THREE));
+        assertFalse(groupSet.contains("Group 1"));
+    }
+
+    @Test
+    public void containsAll() {
+        GroupSet groupSet = GroupSet.of(Set.of(GROUP_ONE, GROUP_TWO));
+        assertTrue(groupSet.containsAll(GroupSet.of(Set.of(GROUP_ONE))));
+        assertTrue(groupSet.containsAll(GroupSet.empty()));
+        assertTrue(groupSet.containsAll(Set.of(GROUP_TWO)));
+        assertFalse(groupSet.containsAll(GroupSet.of(Set.of(GROUP_ONE, GROUP_THREE))));
+        assertFalse(GroupSet.empty().containsAll(groupSet));
+    }
+
+    @Test
+    public void union() {
+        GroupSet groupSet = GroupSet.of(Set.of(GROUP_ONE));
+        assertEquals(Set.of(GROUP_ONE, GROUP_TWO), groupSet.union(Set.of(GROUP_TWO)));
+        assertEquals(Set.of(GROUP_ONE, GROUP_TWO), GroupSet.of(Set.of(GROUP_TWO)).union(groupSet));
+
+        // Nothing new to add returns the same set
+        assertSame(groupSet, groupSet.union(Set.of(GROUP_ONE)));
+        assertSame(groupSet, groupSet.union(GroupSet.empty()));
+    }
+
+    @Test
+    public void equals() {
+        GroupSet groupSet = GroupSet.of(Set.of(GROUP_ONE, GROUP_TWO));
+        assertEquals(groupSet, GroupSet.of(List.of(GROUP_TWO, GROUP_ONE, GROUP_TWO)));
+        assertNotEquals(groupSet, GroupSet.of(Set.of(GROUP_ONE)));
+        assertNotEquals(groupSet, GroupSet.empty());
+        assertNotEquals(groupSet, null);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        GroupSet groupSet = GroupSet.of(Set.of(GROUP_ONE));
+        assertThrows(UnsupportedOperationException.class, () -> groupSet.add(GROUP_TWO));
+        assertThrows(UnsupportedOperationException.class, () -> groupSet.remove(GROUP_TWO));
+        assertThrows(UnsupportedOperationException.class, () -> groupSet.retainAll(Set.of()));
+        assertThrows(UnsupportedOperationException.class, () -> groupSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> GroupSet.empty().removeIf(group -> true));
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.teachstack.model.group;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.teachstack.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +26,12 @@ public class GroupTest {
         assertThrows(NullPointerException.class, () -> Group.isValidGroupName(null));
     }
 
+    @Test
+    public void of_sameName_sameGroup() {
+        assertSame(Group.of("Group 1"), Group.of(new String("Group 1")));
+        assertEquals(Group.of("Group 1"), new Group("Group 1"));
+        assertEquals(Group.of("Group 1").hashCode(), new Group("Group 1").hashCode());
+        assertNotEquals(Group.of("Group 1"), Group.of("Group 2"));
+    }
+
 }
@@ -0,0 +1,75 @@
+package seedu.teachstack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+import static seedu.teachstack.testutil.TypicalPersons.ALICE;
+import static seedu.teachstack.testutil.TypicalPersons.BENSON;
+import static seedu.teachstack.testutil.TypicalPersons.CARL;
+import static seedu.teachstack.testutil.TypicalPersons.GEORGE;
+import static seedu.teachstack.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class GradeDistributionTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> GradeDistribution.of(null));
+    }
+
+    @Test
+    public void of_noPersons_returnsEmptyDistribution() {
+        GradeDistribution distribution = GradeDistribution.of(Collections.emptyList());
+        assertEquals(0, distribution.getTotal());
+        assertEquals(0, distribution.getMean());
+        assertEquals(0, distribution.getStandardDeviation(0));
+        assertEquals(0, distribution.getCountAtOrBelow(Grade.of("A+")));
+    }
+
+    @Test
+    public void getCount() {
+        GradeDistribution distribution = GradeDistribution.of(Arrays.asList(ALICE, BENSON, GEORGE));
+        assertEquals(3, distribution.getTotal());
+        assertEquals(1, distribution.getCount(Grade.of("A+")));
+        assertEquals(1, distribution.getCount(Grade.of("C")));
+        assertEquals(0, distribution.getCount(Grade.of("B")));
+    }
+
+    @Test
+    public void getCountAtOrBelow() {
+        GradeDistribution distribution = GradeDistribution.of(getTypicalPersons());
+        assertEquals(1, distribution.getCountAtOrBelow(Grade.of("C+"))); // GEORGE
+        assertEquals(4, distribution.getCountAtOrBelow(Grade.of("B+")));
+        assertEquals(7, distribution.getCountAtOrBelow(Grade.of("A+")));
+    }
+
+    @Test
+    public void getMeanAndStandardDeviation() {
+        // A+ = 11, A = 10, A- = 9
+        GradeDistribution distribution = GradeDistribution.of(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(10, distribution.getMean(), 1e-9);
+        assertEquals(Math.sqrt(2.0 / 3), distribution.getStandardDeviation(10), 1e-9);
+    }
+
+    @Test
+    public void equals() {
+        GradeDistribution distribution = GradeDistribution.of(Arrays.asList(ALICE, BENSON));
+
+        // same values -> returns true
+        assertTrue(distribution.equals(GradeDistribution.of(Arrays.asList(BENSON, ALICE))));
+
+        // same object -> returns true
+        assertTrue(distribution.equals(distribution));
+
+        // null -> returns false
+        assertFalse(distribution.equals(null));
+
+        // different values -> returns false
+        assertFalse(distribution.equals(GradeDistribution.of(Arrays.asList(ALICE, CARL))));
+    }
+}
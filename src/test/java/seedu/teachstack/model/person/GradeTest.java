@@ -2,6 +2,7 @@ package seedu.teachstack.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.teachstack.testutil.Assert.assertThrows;
 
@@ -10,14 +11,31 @@ import org.junit.jupiter.api.Test;
 public class GradeTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Grade(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Grade.of(null));
     }
 
     @Test
-    public void constructor_invalidGrade_throwsIllegalArgumentException() {
+    public void of_invalidGrade_throwsIllegalArgumentException() {
         String invalidGrade = "";
-        assertThrows(IllegalArgumentException.class, () -> new Grade(invalidGrade));
+        assertThrows(IllegalArgumentException.class, () -> Grade.of(invalidGrade));
+    }
+
+    @Test
+    public void of_sameGrade_returnsSameInstance() {
+        assertSame(Grade.of("B+"), Grade.of("B+"));
+        assertSame(Grade.of("C+"), Grade.retrieveThreshold());
+    }
+
+    @Test
+    public void gradeToInt_intToGrade_roundTrip() {
+        String[] grades = {"F", "D", "D+", "C", "C+", "B-", "B", "B+", "A-", "A", "A+"};
+        for (int i = 0; i < grades.length; i++) {
+            assertEquals(i + 1, Grade.of(grades[i]).gradeToInt());
+            assertEquals(grades[i], Grade.intToGrade(i + 1));
+        }
+        assertEquals("", Grade.intToGrade(0));
+        assertEquals("", Grade.intToGrade(12));
     }
 
     @Test
@@ -30,6 +48,8 @@ public class GradeTest {
         assertFalse(Grade.isValidGrade(" ")); // spaces only
         assertFalse(Grade.isValidGrade("^")); // only non-alphanumeric characters
         assertFalse(Grade.isValidGrade("G")); // is not one of [A+, A, A-, B+, B, B-, C+, C, D+, D, F]
+        assertFalse(Grade.isValidGrade("C-")); // no minus for C
+        assertFalse(Grade.isValidGrade("a")); // lowercase
 
         // valid grade
         assertTrue(Grade.isValidGrade("A+")); // with operator
@@ -38,10 +58,10 @@ public class GradeTest {
 
     @Test
     public void equals() {
-        Grade grade = new Grade("A");
+        Grade grade = Grade.of("A");
 
         // same values -> returns true
-        assertTrue(grade.equals(new Grade("A")));
+        assertTrue(grade.equals(Grade.of("A")));
 
         // same object -> returns true
         assertTrue(grade.equals(grade));
@@ -53,13 +73,13 @@ public class GradeTest {
         assertFalse(grade.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(grade.equals(new Grade("A-")));
+        assertFalse(grade.equals(Grade.of("A-")));
     }
 
     @Test
     public void compareTo() {
-        Grade first = new Grade("A+");
-        Grade second = new Grade("B");
+        Grade first = Grade.of("A+");
+        Grade second = Grade.of("B");
         assertEquals(first.compareTo(second), 4);
     }
 }
@@ -0,0 +1,88 @@
+package seedu.teachstack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.teachstack.model.group.Group;
+import seedu.teachstack.model.group.GroupSet;
+import seedu.teachstack.model.util.SampleDataUtil;
+
+public class PersonColumnsTest {
+
+    private static final String[] GRADES = {"A+", "A", "A-", "B+", "B", "B-", "C+", "C", "D+", "D", "F"};
+    // Enough groups that their bits take up more than one word
+    private static final int GROUP_COUNT = 100;
+
+    private final Random random = new Random(0);
+    private final PersonColumns columns = new PersonColumns();
+    private final List<Person> persons = new ArrayList<>();
+
+    @Test
+    public void countGrades_afterAddsAndRemoves_sameAsCountingPersons() {
+        for (int i = 0; i < 2000; i++) {
+            if (!persons.isEmpty() && random.nextInt(3) == 0) {
+                columns.remove(persons.remove(random.nextInt(persons.size())));
+            } else {
+                Person person = newPerson(i);
+                persons.add(person);
+                columns.add(person);
+            }
+        }
+        assertEquals(persons.size(), columns.size());
+        assertCountsMatch();
+    }
+
+    @Test
+    public void countGrades_manyRows_sameAsCountingPersons() {
+        // Enough rows for the rows to be counted in parallel
+        for (int i = 0; i < 40_000; i++) {
+            Person person = newPerson(i);
+            persons.add(person);
+            columns.add(person);
+        }
+        assertCountsMatch();
+    }
+
+    @Test
+    public void clear_thenAdd_onlyNewRowsCounted() {
+        columns.add(newPerson(1));
+        columns.clear();
+        Person person = newPerson(1);
+        columns.add(person);
+        persons.add(person);
+        assertCountsMatch();
+    }
+
+    private void assertCountsMatch() {
+        List<Set<Group>> queries = new ArrayList<>();
+        queries.add(Set.of());
+        queries.add(Set.of(Group.of("PersonColumnsTest 0")));
+        queries.add(Set.of(Group.of("PersonColumnsTest 1"), Group.of("PersonColumnsTest 99")));
+        queries.add(Set.of(Group.of("PersonColumnsTest 0"), Group.of("PersonColumnsTest 1")));
+        queries.add(Set.of(Group.of("PersonColumnsTest unused")));
+        for (Set<Group> query : queries) {
+            int[] expected = new int[GradeDistribution.NUMBER_OF_SLOTS];
+            persons.stream()
+                    .filter(person -> person.getGroups().containsAll(query))
+                    .forEach(person -> expected[person.getGrade().gradeToInt()]++);
+            assertArrayEquals(expected, columns.countGrades(GroupSet.of(query)), query.toString());
+        }
+    }
+
+    private Person newPerson(int number) {
+        String[] groups = new String[random.nextInt(3)];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = "PersonColumnsTest " + random.nextInt(GROUP_COUNT);
+        }
+        return new Person(new Name("Student " + number), new StudentId(String.format("A%07dA", number)),
+                new Email(String.format("e%07d@u.nus.edu", number)), Grade.of(GRADES[random.nextInt(GRADES.length)]),
+                SampleDataUtil.getGroupSet(groups));
+    }
+}
@@ -15,6 +15,8 @@ import static seedu.teachstack.testutil.Assert.assertThrows;
 import static seedu.teachstack.testutil.TypicalPersons.ALICE;
 import static seedu.teachstack.testutil.TypicalPersons.BOB;
 
+import java.util.Objects;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.teachstack.testutil.PersonBuilder;
@@ -124,6 +126,14 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCodeMethod() {
+        Person alice = new PersonBuilder(ALICE).build();
+        assertEquals(Objects.hash(alice.getName(), alice.getStudentId(), alice.getEmail(), alice.getGrade(),
+                alice.getGroups()), alice.hashCode());
+        assertEquals(ALICE.hashCode(), alice.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
 
@@ -1,5 +1,6 @@
 package seedu.teachstack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.teachstack.testutil.Assert.assertThrows;
@@ -53,4 +54,26 @@ public class StudentIdTest {
         // different values -> returns false
         assertFalse(studentId.equals(new StudentId("A0277658U")));
     }
+
+    @Test
+    public void getPackedValue_fromPackedValue_roundTrip() {
+        for (String id : new String[] {"A0000000A", "A0123456X", "A9999999Z"}) {
+            StudentId studentId = StudentId.fromPackedValue(new StudentId(id).getPackedValue());
+            assertEquals(new StudentId(id), studentId);
+            assertEquals(id, studentId.toString());
+        }
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromPackedValue(-1));
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromPackedValue(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void compareTo_sameOrderAsString() {
+        String[] ids = {"A0000000A", "A0000000B", "A0000001A", "A0123456X", "A1000000A", "A9999999Z"};
+        for (String first : ids) {
+            for (String second : ids) {
+                assertEquals(Integer.signum(first.compareTo(second)),
+                        Integer.signum(new StudentId(first).compareTo(new StudentId(second))));
+            }
+        }
+    }
 }
@@ -2,20 +2,31 @@ package seedu.teachstack.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.teachstack.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.teachstack.logic.commands.CommandTestUtil.VALID_GROUP_GROUP1;
+import static seedu.teachstack.logic.commands.CommandTestUtil.VALID_GROUP_GROUP2B;
 import static seedu.teachstack.logic.commands.CommandTestUtil.VALID_STUDENTID_AMY;
 import static seedu.teachstack.testutil.Assert.assertThrows;
 import static seedu.teachstack.testutil.TypicalPersons.ALICE;
+import static seedu.teachstack.testutil.TypicalPersons.BENSON;
 import static seedu.teachstack.testutil.TypicalPersons.BOB;
+import static seedu.teachstack.testutil.TypicalPersons.CARL;
+import static seedu.teachstack.testutil.TypicalPersons.GEORGE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.teachstack.model.group.Group;
 import seedu.teachstack.model.person.exceptions.DuplicatePersonException;
 import seedu.teachstack.model.person.exceptions.PersonNotFoundException;
 import seedu.teachstack.testutil.PersonBuilder;
@@ -83,6 +94,170 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.containsById(editedAlice));
     }
 
+    @Test
+    public void get_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.get(null));
+    }
+
+    @Test
+    public void get_studentIdNotInList_returnsNull() {
+        uniquePersonList.add(BOB);
+        assertNull(uniquePersonList.get(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void get_studentIdInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertSame(ALICE, uniquePersonList.get(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void get_afterSetPersonWithNewId_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId(VALID_STUDENTID_AMY).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertNull(uniquePersonList.get(ALICE.getStudentId()));
+        assertSame(editedAlice, uniquePersonList.get(editedAlice.getStudentId()));
+        assertTrue(uniquePersonList.containsByEmail(ALICE));
+    }
+
+    @Test
+    public void setPerson_samePerson_personStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).build());
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getStudentId()));
+        assertTrue(uniquePersonList.containsByEmail(ALICE));
+    }
+
+    @Test
+    public void setPersonSorted_samePerson_personStillFound() {
+        uniquePersonList.addSorted(ALICE);
+        uniquePersonList.addSorted(CARL);
+        uniquePersonList.setPersonSorted(ALICE, new PersonBuilder(ALICE).build());
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getStudentId()));
+        assertTrue(uniquePersonList.containsByEmail(ALICE));
+        assertEquals(Arrays.asList(CARL, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void containsById_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.containsById(ALICE));
+        assertFalse(uniquePersonList.containsByEmail(ALICE));
+    }
+
+    @Test
+    public void getGradeDistributionOfGroups_multipleGroups_countsMembersOfEveryGroup() {
+        Person aliceInBothGroups = new PersonBuilder(ALICE).withGroups(VALID_GROUP_GROUP1, "Group 2B").build();
+        Person bobInOneGroup = new PersonBuilder(BOB).withGroups(VALID_GROUP_GROUP1).build();
+        uniquePersonList.add(aliceInBothGroups);
+        uniquePersonList.add(bobInOneGroup);
+
+        assertEquals(GradeDistribution.of(Arrays.asList(aliceInBothGroups, bobInOneGroup)),
+                uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))));
+        assertEquals(GradeDistribution.of(Arrays.asList(aliceInBothGroups)),
+                uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1), new Group("Group 2B"))));
+        assertEquals(0, uniquePersonList.getGradeDistribution(Set.of(new Group("Unknown"))).getTotal());
+    }
+
+    @Test
+    public void getGradeDistributionOfGroups_afterRemoveAndSetPerson_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withGroups().build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(0, uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))).getTotal());
+
+        uniquePersonList.setPerson(editedAlice, ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))).getTotal());
+    }
+
+    @Test
+    public void setGroups_severalPersons_groupsReplacedInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.setGroups(Map.of(ALICE.getStudentId(), Set.of(new Group("Group 3")),
+                CARL.getStudentId(), Set.of()));
+        Person editedAlice = new PersonBuilder(ALICE).withGroups("Group 3").build();
+        assertEquals(Arrays.asList(editedAlice, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(GradeDistribution.of(Arrays.asList(editedAlice)),
+                uniquePersonList.getGradeDistribution(Set.of(new Group("Group 3"))));
+        assertEquals(GradeDistribution.of(Arrays.asList(BENSON)),
+                uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))));
+    }
+
+    @Test
+    public void setGroups_sameGroups_personStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setGroups(Map.of(ALICE.getStudentId(), ALICE.getGroups()));
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getStudentId()));
+        assertTrue(uniquePersonList.containsByEmail(ALICE));
+        assertEquals(1, uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))).getTotal());
+    }
+
+    @Test
+    public void setGroups_studentIdNotInList_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setGroups(
+                Map.of(ALICE.getStudentId(), Set.of(), BOB.getStudentId(), Set.of())));
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void commitBatch_severalChanges_singleChangeFired() {
+        uniquePersonList.add(GEORGE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        List<List<Person>> seenLists = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                seenLists.add(new ArrayList<>(change.getList())));
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(CARL);
+        uniquePersonList.addSorted(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withGroups().build();
+        uniquePersonList.setPersonSorted(BENSON, editedBenson);
+        // Lookups see the changes straight away, but listeners only see them once the batch is committed
+        assertSame(editedBenson, uniquePersonList.get(BENSON.getStudentId()));
+        assertEquals(Arrays.asList(GEORGE, CARL, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(seenLists.isEmpty());
+
+        uniquePersonList.commitBatch();
+        assertEquals(Arrays.asList(Arrays.asList(GEORGE, editedBenson, ALICE)), seenLists);
+    }
+
+    @Test
+    public void rollbackBatch_failedChange_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        long modificationCount = uniquePersonList.getModificationCount();
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(CARL);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(BENSON));
+        uniquePersonList.rollbackBatch();
+
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(CARL));
+        assertEquals(GradeDistribution.of(Arrays.asList(ALICE, BENSON)),
+                uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))));
+        assertEquals(modificationCount, uniquePersonList.getModificationCount());
+        assertEquals(0, changeCount[0]);
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -94,6 +269,61 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_uniquePersons_addedToEnd() {
+        uniquePersonList.add(GEORGE);
+        uniquePersonList.addAll(Arrays.asList(CARL, BENSON));
+        assertEquals(Arrays.asList(GEORGE, CARL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertSame(CARL, uniquePersonList.get(CARL.getStudentId()));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON, BENSON)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addSorted_unsortedInsertions_keepsListSorted() {
+        uniquePersonList.addSorted(BENSON);
+        uniquePersonList.addSorted(GEORGE);
+        uniquePersonList.addSorted(ALICE);
+        uniquePersonList.addSorted(CARL);
+        assertEquals(Arrays.asList(GEORGE, CARL, BENSON, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addSorted_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.addSorted(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addSorted(ALICE));
+    }
+
+    @Test
+    public void setPersonSorted_gradeChanged_movesPerson() {
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, CARL, BENSON, ALICE));
+        Person editedGeorge = new PersonBuilder(GEORGE).withGrade("A").build();
+        uniquePersonList.setPersonSorted(GEORGE, editedGeorge);
+        assertEquals(Arrays.asList(CARL, editedGeorge, BENSON, ALICE),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertSame(editedGeorge, uniquePersonList.get(GEORGE.getStudentId()));
+    }
+
+    @Test
+    public void setPersonSorted_gradeUnchanged_keepsPosition() {
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, CARL, ALICE));
+        Person editedCarl = new PersonBuilder(CARL).withGroups(VALID_GROUP_GROUP1).build();
+        uniquePersonList.setPersonSorted(CARL, editedCarl);
+        assertEquals(Arrays.asList(GEORGE, editedCarl, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersonSorted_targetPersonNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.addSorted(BENSON);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersonSorted(ALICE, ALICE));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -197,6 +427,97 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSharedEmail_throwsDuplicatePersonException() {
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        List<Person> listWithSharedEmail = Arrays.asList(ALICE, bobWithAliceEmail);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithSharedEmail));
+    }
+
+    @Test
+    public void getDuplicateIndexes_listWithDuplicates_returnsEveryLaterDuplicate() {
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        Person carlWithBensonId = new PersonBuilder(CARL).withStudentId(BENSON.getStudentId().toString()).build();
+        List<Person> persons = Arrays.asList(ALICE, BENSON, bobWithAliceEmail, GEORGE, carlWithBensonId, ALICE);
+        assertEquals(Arrays.asList(2, 4, 5), UniquePersonList.getDuplicateIndexes(persons));
+        assertTrue(UniquePersonList.getDuplicateIndexes(Arrays.asList(ALICE, BENSON)).isEmpty());
+    }
+
+    @Test
+    public void getGradeDistribution_afterMutations_matchesContents() {
+        uniquePersonList.addSorted(ALICE);
+        uniquePersonList.addSorted(GEORGE);
+        uniquePersonList.addSorted(CARL);
+        uniquePersonList.setPersonSorted(CARL, new PersonBuilder(CARL).withGrade("C").build());
+        uniquePersonList.remove(ALICE);
+        assertEquals(GradeDistribution.of(uniquePersonList.asUnmodifiableObservableList()),
+                uniquePersonList.getGradeDistribution());
+        assertEquals(2, uniquePersonList.getGradeDistribution().getCount(Grade.of("C")));
+
+        uniquePersonList.setPersons(Arrays.asList(BENSON));
+        assertEquals(GradeDistribution.of(Arrays.asList(BENSON)), uniquePersonList.getGradeDistribution());
+    }
+
+    @Test
+    public void getGradeDistributionOfGroups_afterMutations_matchesContents() {
+        uniquePersonList.addSorted(ALICE);
+        uniquePersonList.addSorted(BENSON);
+        uniquePersonList.addSorted(CARL);
+        uniquePersonList.setGroups(Map.of(CARL.getStudentId(), Set.of(new Group(VALID_GROUP_GROUP1))));
+        uniquePersonList.setPersonSorted(ALICE, new PersonBuilder(ALICE).withGrade("C").build());
+        uniquePersonList.remove(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withGrade("C").build();
+        Person editedCarl = new PersonBuilder(CARL).withGroups(VALID_GROUP_GROUP1).build();
+
+        assertEquals(GradeDistribution.of(Arrays.asList(editedAlice, editedCarl)),
+                uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))));
+        assertEquals(uniquePersonList.getGradeDistribution(), uniquePersonList.getGradeDistribution(Set.of()));
+        assertEquals(0, uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP2B))).getTotal());
+
+        // Rolling back a batch puts the counts back as they were before it
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(editedCarl);
+        uniquePersonList.rollbackBatch();
+        assertEquals(2, uniquePersonList.getGradeDistribution(Set.of(new Group(VALID_GROUP_GROUP1))).getTotal());
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyOnModification() {
+        long count = uniquePersonList.getModificationCount();
+        uniquePersonList.addSorted(ALICE);
+        assertTrue(uniquePersonList.getModificationCount() != count);
+
+        count = uniquePersonList.getModificationCount();
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.get(ALICE.getStudentId());
+        assertEquals(count, uniquePersonList.getModificationCount());
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addSorted(ALICE));
+        assertEquals(count, uniquePersonList.getModificationCount());
+
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.getModificationCount() != count);
+    }
+
+    @Test
+    public void sort_alreadySorted_modificationCountUnchanged() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        long count = uniquePersonList.getModificationCount();
+        uniquePersonList.sort();
+        assertEquals(count, uniquePersonList.getModificationCount());
+    }
+
+    @Test
+    public void sort_unsorted_modificationCountChanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        long count = uniquePersonList.getModificationCount();
+        uniquePersonList.sort();
+        assertTrue(uniquePersonList.getModificationCount() != count);
+        assertEquals(List.of(CARL, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
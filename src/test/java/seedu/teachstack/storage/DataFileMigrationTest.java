@@ -0,0 +1,89 @@
+package seedu.teachstack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.testutil.TypicalArchivedPersons.getTypicalArchivedBook;
+import static seedu.teachstack.testutil.TypicalPersons.ALICE;
+import static seedu.teachstack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.teachstack.model.AddressBook;
+import seedu.teachstack.model.ArchivedBook;
+
+public class DataFileMigrationTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void migrateIfOutdated_missingTarget_copied() throws Exception {
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        json.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(DataFileMigration.migrateIfOutdated(json, binary));
+        assertEquals(getTypicalAddressBook(), new AddressBook(binary.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateIfOutdated_missingSource_notCopied() {
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+
+        assertFalse(DataFileMigration.migrateIfOutdated(json, binary));
+        assertFalse(Files.exists(binary.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void migrateIfOutdated_olderOrNewerSource_copiedOnlyIfNewer() throws Exception {
+        JsonArchivedBookStorage json = new JsonArchivedBookStorage(testFolder.resolve("archivedbook.json"));
+        BinaryArchivedBookStorage binary = new BinaryArchivedBookStorage(testFolder.resolve("archivedbook.bin"));
+        ArchivedBook edited = getTypicalArchivedBook();
+        edited.addPerson(ALICE);
+        json.saveArchivedBook(getTypicalArchivedBook());
+        binary.saveArchivedBook(edited);
+
+        // target is newer -> not copied
+        setLastModified(json.getArchivedBookFilePath(), 1000);
+        setLastModified(binary.getArchivedBookFilePath(), 2000);
+        assertFalse(DataFileMigration.migrateIfOutdated(json, binary));
+        assertEquals(edited, new ArchivedBook(binary.readArchivedBook().get()));
+
+        // source is newer -> copied, in both directions
+        assertTrue(DataFileMigration.migrateIfOutdated(binary, json));
+        assertEquals(edited, new ArchivedBook(json.readArchivedBook().get()));
+    }
+
+    @Test
+    public void migrateIfOutdated_newerJournal_copied() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage json = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        json.saveAddressBook(getTypicalAddressBook());
+        binary.saveAddressBook(getTypicalAddressBook());
+        setLastModified(jsonFilePath, 1000);
+        setLastModified(binary.getAddressBookFilePath(), 2000);
+
+        // a change journaled after the binary file was written
+        JournaledAddressBookStorage journaledJson = new JournaledAddressBookStorage(json);
+        journaledJson.readAddressBook();
+        AddressBook edited = getTypicalAddressBook();
+        edited.removePerson(ALICE);
+        edited.sort();
+        journaledJson.saveAddressBook(edited);
+
+        assertTrue(DataFileMigration.migrateIfOutdated(new JournaledAddressBookStorage(json), binary));
+        assertEquals(edited, new AddressBook(binary.readAddressBook().get()));
+    }
+
+    private static void setLastModified(Path filePath, long millis) throws Exception {
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(millis));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.teachstack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+import static seedu.teachstack.testutil.TypicalPersons.ALICE;
+import static seedu.teachstack.testutil.TypicalPersons.HOON;
+import static seedu.teachstack.testutil.TypicalPersons.IDA;
+import static seedu.teachstack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.teachstack.model.AddressBook;
+import seedu.teachstack.model.ReadOnlyAddressBook;
+import seedu.teachstack.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(getStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.sort();
+
+        // First save writes a snapshot
+        getStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Later saves are journaled, and read back after a restart
+        JournaledAddressBookStorage storage = getStorage(filePath);
+        storage.readAddressBook();
+        original.addPersonSorted(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPersonSorted(HOON, new PersonBuilder(HOON).withGrade("A+").build());
+        original.addPersonSorted(IDA);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = getStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(getTypicalAddressBook().getPersonList().size(),
+                jsonAddressBookStorage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_savedAsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        getStorage(filePath).saveAddressBook(original, otherFilePath);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+        assertFalse(Files.exists(PersonJournal.getJournalPath(otherFilePath)));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(NullPointerException.class, () -> getStorage(filePath).saveAddressBook(null));
+    }
+
+    private static JournaledAddressBookStorage getStorage(Path filePath) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+}
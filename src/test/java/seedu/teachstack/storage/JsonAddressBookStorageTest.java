@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.commons.util.FileUtil;
+import seedu.teachstack.commons.util.JsonUtil;
 import seedu.teachstack.model.AddressBook;
 import seedu.teachstack.model.ReadOnlyAddressBook;
 
@@ -86,6 +88,28 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_sameFormatAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType());
+    }
+
+    @Test
+    public void readAddressBook_otherFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        FileUtil.writeToFile(filePath, "{ \"version\" : [ 1, { \"persons\" : [] } ], " + json.substring(1));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import seedu.teachstack.commons.exceptions.IllegalValueException;
 import seedu.teachstack.commons.util.JsonUtil;
 import seedu.teachstack.model.AddressBook;
+import seedu.teachstack.model.person.UniquePersonList;
 import seedu.teachstack.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -40,8 +41,9 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(UniquePersonList.MESSAGE_DUPLICATE_RECORD, 2, "A0123456X", "e0345678@u.nus.edu");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import seedu.teachstack.commons.exceptions.IllegalValueException;
 import seedu.teachstack.commons.util.JsonUtil;
 import seedu.teachstack.model.ArchivedBook;
+import seedu.teachstack.model.person.UniquePersonList;
 import seedu.teachstack.testutil.TypicalArchivedPersons;
 
 public class JsonSerializableArchivedBookTest {
@@ -40,8 +41,9 @@ public class JsonSerializableArchivedBookTest {
     public void toModelType_duplicateArchivedPersons_throwsIllegalValueException() throws Exception {
         JsonSerializableArchivedBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableArchivedBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableArchivedBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableArchivedBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(UniquePersonList.MESSAGE_DUPLICATE_RECORD, 2, "A0123456X", "e0345678@u.nus.edu");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
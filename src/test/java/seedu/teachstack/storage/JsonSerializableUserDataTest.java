@@ -14,7 +14,7 @@ public class JsonSerializableUserDataTest {
     public void equals() {
         JsonSerializableUserData first = new JsonSerializableUserData(); // default values
 
-        JsonSerializableUserData.setGradeThreshold(new Grade("A+"));
+        JsonSerializableUserData.setGradeThreshold(Grade.of("A+"));
         JsonSerializableUserData second = new JsonSerializableUserData();
 
         JsonSerializableUserData.setLastRequestedFind(p -> false);
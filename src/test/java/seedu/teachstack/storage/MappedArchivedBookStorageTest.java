@@ -0,0 +1,244 @@
+package seedu.teachstack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+import static seedu.teachstack.testutil.TypicalArchivedPersons.AMY;
+import static seedu.teachstack.testutil.TypicalArchivedPersons.BOB;
+import static seedu.teachstack.testutil.TypicalArchivedPersons.JOHN;
+import static seedu.teachstack.testutil.TypicalArchivedPersons.getTypicalArchivedBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.model.ArchivedBook;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.exceptions.DuplicatePersonException;
+import seedu.teachstack.model.person.exceptions.PersonNotFoundException;
+import seedu.teachstack.testutil.PersonBuilder;
+
+public class MappedArchivedBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getRecordFilePath() {
+        assertEquals(Paths.get("data", "archivedbook.records"),
+                MappedArchivedBookStorage.getRecordFilePath(Paths.get("data", "archivedbook.json")));
+    }
+
+    @Test
+    public void readArchivedBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.records");
+        assertFalse(new MappedArchivedBookStorage(filePath).readArchivedBook().isPresent());
+    }
+
+    @Test
+    public void readArchivedBook_notRecordFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        new JsonArchivedBookStorage(filePath).saveArchivedBook(getTypicalArchivedBook());
+        assertThrows(DataLoadingException.class, () -> new MappedArchivedBookStorage(filePath).readArchivedBook());
+    }
+
+    @Test
+    public void readAndSaveArchivedBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        MappedArchivedBookStorage storage = new MappedArchivedBookStorage(filePath);
+        ArchivedBook original = getTypicalArchivedBook();
+        original.sort();
+
+        storage.saveArchivedBook(original);
+        ArchivedBook readBack = (ArchivedBook) storage.readArchivedBook().get();
+        assertTrue(readBack.isWriteThrough());
+        assertEquals(original, readBack);
+
+        // Changes are written to the file as they are made
+        original.addPerson(AMY);
+        readBack.addPerson(AMY);
+        Person editedJohn = new PersonBuilder(JOHN).withGrade("A+").build();
+        original.removePerson(JOHN);
+        original.addPerson(editedJohn);
+        readBack.setPersonSorted(JOHN, editedJohn);
+        original.removePerson(AMY);
+        readBack.removePerson(AMY);
+        assertEquals(original, readBack);
+
+        storage.saveArchivedBook(readBack);
+        assertEquals(original, storage.readArchivedBook().get());
+        assertEquals(editedJohn, readBack.getArchivedPerson(JOHN.getStudentId()));
+        assertNull(readBack.getArchivedPerson(AMY.getStudentId()));
+    }
+
+    @Test
+    public void readArchivedBook_changesInBatch_shownTogetherWhenCommitted() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        MappedArchivedBookStorage storage = new MappedArchivedBookStorage(filePath);
+        storage.saveArchivedBook(getTypicalArchivedBook());
+        ArchivedBook archivedBook = (ArchivedBook) storage.readArchivedBook().get();
+        List<Person> shownBefore = new ArrayList<>(archivedBook.getArchivedList());
+        int[] changeCount = new int[1];
+        archivedBook.getArchivedList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        archivedBook.beginBatch();
+        archivedBook.addPerson(AMY);
+        archivedBook.removePerson(JOHN);
+        assertEquals(shownBefore, archivedBook.getArchivedList());
+        assertTrue(archivedBook.hasPerson(AMY));
+        assertFalse(archivedBook.hasPerson(JOHN));
+        assertEquals(0, changeCount[0]);
+        archivedBook.commitBatch();
+
+        ArchivedBook expected = getTypicalArchivedBook();
+        expected.sort();
+        expected.addPerson(AMY);
+        expected.removePerson(JOHN);
+        assertEquals(expected, archivedBook);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void readArchivedBook_lookups_matchPersons() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        MappedArchivedBookStorage storage = new MappedArchivedBookStorage(filePath);
+        storage.saveArchivedBook(getTypicalArchivedBook());
+        ArchivedBook archivedBook = (ArchivedBook) storage.readArchivedBook().get();
+
+        assertTrue(archivedBook.hasPerson(JOHN));
+        assertTrue(archivedBook.hasArchivedId(
+                new PersonBuilder(BOB).withStudentId(JOHN.getStudentId().toString()).build()));
+        assertTrue(archivedBook.hasArchivedEmail(new PersonBuilder(BOB).withEmail(JOHN.getEmail().value).build()));
+        assertFalse(archivedBook.hasPerson(BOB));
+        assertThrows(DuplicatePersonException.class, () -> archivedBook.addPerson(JOHN));
+    }
+
+    @Test
+    public void readArchivedBook_lookupsAfterChanges_matchPersons() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        MappedArchivedBookStorage storage = new MappedArchivedBookStorage(filePath);
+        storage.saveArchivedBook(getTypicalArchivedBook());
+        ArchivedBook archivedBook = (ArchivedBook) storage.readArchivedBook().get();
+
+        Person editedJohn = new PersonBuilder(JOHN).withGrade("A+").withEmail(VALID_EMAIL_AMY).build();
+        archivedBook.setPersonSorted(JOHN, editedJohn);
+        archivedBook.addPerson(BOB);
+        archivedBook.removePerson(BOB);
+        assertEquals(editedJohn, archivedBook.getArchivedPerson(JOHN.getStudentId()));
+        assertTrue(archivedBook.hasArchivedEmail(editedJohn));
+        assertFalse(archivedBook.hasArchivedEmail(JOHN));
+        assertNull(archivedBook.getArchivedPerson(BOB.getStudentId()));
+        assertFalse(archivedBook.hasArchivedEmail(BOB));
+
+        // The lookups are rebuilt from the file when it is opened again
+        ArchivedBook readBack = (ArchivedBook) storage.readArchivedBook().get();
+        assertEquals(editedJohn, readBack.getArchivedPerson(JOHN.getStudentId()));
+        assertTrue(readBack.hasPerson(editedJohn));
+        assertFalse(readBack.hasArchivedEmail(JOHN));
+        readBack.removePerson(editedJohn);
+        assertFalse(readBack.hasArchivedId(editedJohn));
+        assertThrows(PersonNotFoundException.class, () -> readBack.removePerson(editedJohn));
+    }
+
+    @Test
+    public void readArchivedBook_unfinishedAppend_discarded() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        MappedArchivedBookStorage storage = new MappedArchivedBookStorage(filePath);
+        storage.saveArchivedBook(getTypicalArchivedBook());
+        byte[] completeBytes = Files.readAllBytes(filePath);
+        ((ArchivedBook) storage.readArchivedBook().get()).addPerson(AMY);
+
+        // part of the appended record is written, but the header is not yet updated
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] unfinishedBytes = Arrays.copyOf(bytes, bytes.length - 3);
+        System.arraycopy(completeBytes, 0, unfinishedBytes, 0, completeBytes.length);
+        Files.write(filePath, unfinishedBytes);
+
+        ArchivedBook expected = getTypicalArchivedBook();
+        expected.sort();
+        assertEquals(expected, storage.readArchivedBook().get());
+        assertArrayEquals(completeBytes, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readArchivedBook_corruptedLengthBeforeLastRecord_exceptionThrownAndFileKept() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        new MappedArchivedBookStorage(filePath).saveArchivedBook(getTypicalArchivedBook());
+
+        // make the first record seem to run past the end of the file
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[20] = 0x7f;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new MappedArchivedBookStorage(filePath).readArchivedBook());
+        assertArrayEquals(bytes, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readArchivedBook_corruptedRecord_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        new MappedArchivedBookStorage(filePath).saveArchivedBook(getTypicalArchivedBook());
+
+        // flip a byte in the first record
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[50] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new MappedArchivedBookStorage(filePath).readArchivedBook());
+    }
+
+    @Test
+    public void readArchivedBook_corruptedGrade_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        new MappedArchivedBookStorage(filePath).saveArchivedBook(getTypicalArchivedBook());
+
+        // change the grade of the first record to another valid grade
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[25] = (byte) (bytes[25] == 1 ? 2 : 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new MappedArchivedBookStorage(filePath).readArchivedBook());
+    }
+
+    @Test
+    public void readArchivedBook_mostlyRemovedRecords_compacted() throws Exception {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        MappedArchivedBookStorage storage = new MappedArchivedBookStorage(filePath);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i)
+                    .withStudentId(String.format("A%07dX", i)).withEmail(String.format("e%07d@u.nus.edu", i)).build());
+        }
+        ArchivedBook original = new ArchivedBook();
+        original.setPersons(persons);
+        storage.saveArchivedBook(original);
+        long savedSize = Files.size(filePath);
+
+        ArchivedBook archivedBook = (ArchivedBook) storage.readArchivedBook().get();
+        archivedBook.setPersons(persons);
+        archivedBook.setPersons(persons);
+        assertTrue(Files.size(filePath) > 2 * savedSize);
+
+        assertEquals(original, storage.readArchivedBook().get());
+        assertEquals(savedSize, Files.size(filePath));
+    }
+
+    @Test
+    public void saveArchivedBook_nullArchivedBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempArchivedBook.records");
+        assertThrows(NullPointerException.class, () -> new MappedArchivedBookStorage(filePath)
+                .saveArchivedBook(null));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.teachstack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.teachstack.commons.exceptions.IllegalValueException;
+import seedu.teachstack.model.person.Name;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = ParallelPersonConverter.CHUNK_SIZE * 2 + 10;
+
+    @Test
+    public void getPersons_manyChunks_orderKept() throws Exception {
+        List<Person> persons = getPersons();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (Person person : persons) {
+            converter.handle(new JsonAdaptedPerson(person));
+        }
+        assertEquals(persons, converter.getPersons());
+    }
+
+    @Test
+    public void getPersons_noPersons_emptyList() throws Exception {
+        assertEquals(new ArrayList<>(), new ParallelPersonConverter().getPersons());
+    }
+
+    @Test
+    public void getPersons_invalidPersons_firstInvalidPersonReported() {
+        List<Person> persons = getPersons();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (int i = 0; i < persons.size(); i++) {
+            JsonAdaptedPerson jsonAdaptedPerson = new JsonAdaptedPerson(persons.get(i));
+            if (i == ParallelPersonConverter.CHUNK_SIZE + 1) {
+                jsonAdaptedPerson = new JsonAdaptedPerson("R@chel", "A0000001X", "e0000001@u.nus.edu", "A", null);
+            } else if (i == PERSON_COUNT - 1) {
+                jsonAdaptedPerson = new JsonAdaptedPerson("Rachel", "A0000001X", "example.com", "A", null);
+            }
+            converter.handle(jsonAdaptedPerson);
+        }
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, converter::getPersons);
+    }
+
+    private static List<Person> getPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).withStudentId(String.format("A%07dX", i))
+                    .withEmail(String.format("e%07d@u.nus.edu", i)).build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.teachstack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.teachstack.testutil.Assert.assertThrows;
+import static seedu.teachstack.testutil.TypicalPersons.ALICE;
+import static seedu.teachstack.testutil.TypicalPersons.BENSON;
+import static seedu.teachstack.testutil.TypicalPersons.CARL;
+import static seedu.teachstack.testutil.TypicalPersons.HOON;
+import static seedu.teachstack.testutil.TypicalPersons.IDA;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.teachstack.commons.exceptions.DataLoadingException;
+import seedu.teachstack.model.person.Person;
+import seedu.teachstack.model.person.UniquePersonList;
+import seedu.teachstack.testutil.PersonBuilder;
+
+public class PersonJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_unknownSavedPersons_writesSnapshotAndDropsJournal() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        Path journalPath = PersonJournal.getJournalPath(snapshotPath);
+        Files.write(journalPath, "stale entry\n".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger snapshotCount = new AtomicInteger();
+
+        new PersonJournal(snapshotPath).save(Arrays.asList(ALICE), snapshotCount::incrementAndGet);
+
+        assertEquals(1, snapshotCount.get());
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void save_unknownSavedPersonsAndSnapshotFails_journalKept() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        Path journalPath = PersonJournal.getJournalPath(snapshotPath);
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        List<Person> snapshot = sorted(Arrays.asList(ALICE));
+        journal.replay(snapshot);
+        List<Person> saved = sorted(Arrays.asList(ALICE, HOON));
+        journal.save(saved, () -> {});
+
+        journal.forget();
+        assertThrows(IOException.class, () -> journal.save(saved, () -> {
+            throw new IOException();
+        }));
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(saved, new PersonJournal(snapshotPath).replay(snapshot));
+    }
+
+    @Test
+    public void save_changes_appendedAndReplayed() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        AtomicInteger snapshotCount = new AtomicInteger();
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        List<Person> snapshot = sorted(Arrays.asList(ALICE, BENSON, CARL));
+        journal.replay(snapshot);
+
+        // add, edit and remove
+        Person editedBenson = new PersonBuilder(BENSON).withGrade("C").build();
+        List<Person> saved = sorted(Arrays.asList(ALICE, editedBenson, HOON));
+        journal.save(saved, snapshotCount::incrementAndGet);
+
+        // no changes -> nothing appended
+        long journalSize = Files.size(PersonJournal.getJournalPath(snapshotPath));
+        journal.save(saved, snapshotCount::incrementAndGet);
+
+        assertEquals(0, snapshotCount.get());
+        assertEquals(journalSize, Files.size(PersonJournal.getJournalPath(snapshotPath)));
+        assertEquals(saved, new PersonJournal(snapshotPath).replay(snapshot));
+    }
+
+    @Test
+    public void replay_tornLastEntry_discarded() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        Path journalPath = PersonJournal.getJournalPath(snapshotPath);
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        List<Person> snapshot = sorted(Arrays.asList(ALICE));
+        journal.replay(snapshot);
+        List<Person> saved = sorted(Arrays.asList(ALICE, HOON));
+        journal.save(saved, () -> {});
+        long completeSize = Files.size(journalPath);
+
+        // the start of an entry that adds IDA
+        journal.save(sorted(Arrays.asList(ALICE, HOON, IDA)), () -> {});
+        byte[] bytes = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(bytes, (int) completeSize + 20));
+
+        assertEquals(saved, new PersonJournal(snapshotPath).replay(snapshot));
+        assertEquals(completeSize, Files.size(journalPath));
+    }
+
+    @Test
+    public void replay_corruptedEntry_discarded() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        Path journalPath = PersonJournal.getJournalPath(snapshotPath);
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        List<Person> snapshot = sorted(Arrays.asList(ALICE));
+        journal.replay(snapshot);
+        journal.save(sorted(Arrays.asList(ALICE, HOON)), () -> {});
+
+        // flip a byte inside the entry, keeping the line break
+        byte[] bytes = Files.readAllBytes(journalPath);
+        bytes[bytes.length - 5] ^= 1;
+        Files.write(journalPath, bytes);
+
+        assertEquals(snapshot, new PersonJournal(snapshotPath).replay(snapshot));
+        assertEquals(0, Files.size(journalPath));
+    }
+
+    @Test
+    public void replay_corruptedEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        Path journalPath = PersonJournal.getJournalPath(snapshotPath);
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        List<Person> snapshot = sorted(Arrays.asList(ALICE));
+        journal.replay(snapshot);
+        journal.save(sorted(Arrays.asList(ALICE, HOON)), () -> {});
+        long firstEntrySize = Files.size(journalPath);
+        journal.save(sorted(Arrays.asList(ALICE, HOON, IDA)), () -> {});
+
+        // flip a byte inside the first entry, which has another entry after it
+        byte[] bytes = Files.readAllBytes(journalPath);
+        bytes[(int) firstEntrySize - 5] ^= 1;
+        Files.write(journalPath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new PersonJournal(snapshotPath).replay(snapshot));
+        assertEquals(bytes.length, Files.size(journalPath));
+    }
+
+    @Test
+    public void replay_entrySwappingEmails_replayed() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        List<Person> snapshot = sorted(Arrays.asList(ALICE, BENSON, CARL));
+        journal.replay(snapshot);
+
+        Person aliceWithBensonEmail = new PersonBuilder(ALICE).withEmail(BENSON.getEmail().value).build();
+        Person bensonWithAliceEmail = new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+        List<Person> saved = sorted(Arrays.asList(aliceWithBensonEmail, bensonWithAliceEmail, CARL));
+        journal.save(saved, () -> {});
+
+        assertEquals(saved, new PersonJournal(snapshotPath).replay(snapshot));
+    }
+
+    @Test
+    public void replay_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        Path journalPath = PersonJournal.getJournalPath(snapshotPath);
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        journal.replay(Collections.emptyList());
+        journal.save(Arrays.asList(HOON), () -> {});
+
+        // an entry that adds a person with an email already used by HOON
+        Person clash = new PersonBuilder(IDA).withEmail(HOON.getEmail().value).build();
+        Path otherSnapshotPath = testFolder.resolve("other.json");
+        PersonJournal otherJournal = new PersonJournal(otherSnapshotPath, Long.MAX_VALUE, Long.MAX_VALUE);
+        otherJournal.replay(Collections.emptyList());
+        otherJournal.save(Arrays.asList(clash), () -> {});
+        Files.write(journalPath, Files.readAllBytes(PersonJournal.getJournalPath(otherSnapshotPath)),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new PersonJournal(snapshotPath)
+                .replay(Collections.emptyList()));
+    }
+
+    @Test
+    public void save_journalPastMaxBytes_compacts() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        Path journalPath = PersonJournal.getJournalPath(snapshotPath);
+        AtomicInteger snapshotCount = new AtomicInteger();
+        PersonJournal journal = new PersonJournal(snapshotPath, 1, Long.MAX_VALUE);
+        journal.replay(Collections.emptyList());
+
+        journal.save(Arrays.asList(ALICE), snapshotCount::incrementAndGet);
+
+        assertEquals(1, snapshotCount.get());
+        assertEquals(0, Files.size(journalPath));
+    }
+
+    @Test
+    public void save_journalPastMaxAge_compacts() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        AtomicInteger snapshotCount = new AtomicInteger();
+        PersonJournal journal = new PersonJournal(snapshotPath, Long.MAX_VALUE, 0);
+        journal.replay(Collections.emptyList());
+
+        journal.save(Arrays.asList(ALICE), snapshotCount::incrementAndGet);
+
+        assertEquals(1, snapshotCount.get());
+    }
+
+    @Test
+    public void save_snapshotFails_journalKept() throws Exception {
+        Path snapshotPath = testFolder.resolve("book.json");
+        PersonJournal journal = new PersonJournal(snapshotPath, 1, Long.MAX_VALUE);
+        journal.replay(Collections.emptyList());
+        List<Person> saved = Arrays.asList(ALICE);
+
+        assertThrows(IOException.class, () -> journal.save(saved, () -> {
+            throw new IOException();
+        }));
+        assertTrue(Files.size(PersonJournal.getJournalPath(snapshotPath)) > 0);
+        assertEquals(saved, new PersonJournal(snapshotPath).replay(Collections.emptyList()));
+    }
+
+    private static List<Person> sorted(List<Person> persons) {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        list.sort();
+        return new ArrayList<>(list.asUnmodifiableObservableList());
+    }
+}
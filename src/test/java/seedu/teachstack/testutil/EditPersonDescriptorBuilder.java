@@ -69,7 +69,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Grade} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withGrade(String grade) {
-        descriptor.setGrade(new Grade(grade));
+        descriptor.setGrade(Grade.of(grade));
         return this;
     }
 
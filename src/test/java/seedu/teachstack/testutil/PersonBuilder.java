@@ -34,7 +34,7 @@ public class PersonBuilder {
         name = new Name(DEFAULT_NAME);
         studentId = new StudentId(DEFAULT_STUDENTID);
         email = new Email(DEFAULT_EMAIL);
-        grade = new Grade(DEFAULT_GRADE);
+        grade = Grade.of(DEFAULT_GRADE);
         groups = new HashSet<>();
     }
 
@@ -86,7 +86,7 @@ public class PersonBuilder {
      * Sets the {@code Grade} of the {@code Person} that we are building.
      */
     public PersonBuilder withGrade(String grade) {
-        this.grade = new Grade(grade);
+        this.grade = Grade.of(grade);
         return this;
     }
 
@@ -1,5 +1,6 @@
 package seedu.teachstack.ui;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -7,11 +8,15 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static seedu.teachstack.testutil.TypicalPersons.ALICE;
+import static seedu.teachstack.testutil.TypicalPersons.BENSON;
+import static seedu.teachstack.testutil.TypicalPersons.CARL;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +27,8 @@ import org.mockito.Mock;
 import org.testfx.framework.junit5.ApplicationExtension;
 
 import javafx.application.Platform;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
 import seedu.teachstack.model.person.Person;
 import seedu.teachstack.testutil.PersonBuilder;
 
@@ -71,6 +78,27 @@ public class PersonCardTest {
         verify(desktopWrapper).mail(new URI("mailto:" + "e1234567@u.nus.edu"));
     }
 
+    @Test
+    public void setPerson_differentPersons_displaysLastPerson() {
+        personCard.setPerson(BENSON, 2);
+        assertEquals(BENSON, personCard.getPerson());
+        assertEquals("2. ", getLabelText("#id"));
+        assertEquals(BENSON.getName().fullName, getLabelText("#name"));
+        assertEquals(BENSON.getEmail().value, getLabelText("#email"));
+        FlowPane groups = (FlowPane) personCard.getRoot().lookup("#groups");
+        assertEquals(Arrays.asList("Group 1", "Group 2B"), groups.getChildren().stream()
+                .map(label -> ((Label) label).getText())
+                .collect(Collectors.toList()));
+
+        personCard.setPerson(CARL, 3);
+        assertEquals(CARL.getName().fullName, getLabelText("#name"));
+        assertTrue(groups.getChildren().isEmpty());
+    }
+
+    private String getLabelText(String selector) {
+        return ((Label) personCard.getRoot().lookup(selector)).getText();
+    }
+
     @Test
     public void unsuccessfulEmailClick() throws IOException {
 